@@ -0,0 +1,55 @@
+package com.user.service.verifier;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Maps verified claims to authority names
+ */
+@FunctionalInterface
+public interface AuthorityMapper {
+
+    Set<String> map(JWTClaimsSet claims);
+
+    /**
+     * Same names the user service checks: scopes become SCOPE_x as in the resource server,
+     * roles become ROLE_X as in hasRole(...)
+     */
+    static AuthorityMapper standard() {
+        return claims -> {
+            Set<String> authorities = new LinkedHashSet<>();
+            addAll(authorities, "SCOPE_", claims.getClaim("scope"), false);
+            addAll(authorities, "SCOPE_", claims.getClaim("scp"), false);
+            addAll(authorities, "ROLE_", claims.getClaim("roles"), true);
+            addAll(authorities, "ROLE_", claims.getClaim("role"), true);
+            return authorities;
+        };
+    }
+
+    private static void addAll(Set<String> authorities, String prefix, Object claim, boolean upperCase) {
+        if (claim instanceof String value) {
+            // OAuth2 scope claims are space-delimited strings
+            for (String name : value.trim().split("\\s+")) {
+                add(authorities, prefix, name, upperCase);
+            }
+        } else if (claim instanceof Collection<?> values) {
+            for (Object name : values) {
+                if (name != null) {
+                    add(authorities, prefix, name.toString(), upperCase);
+                }
+            }
+        }
+    }
+
+    private static void add(Set<String> authorities, String prefix, String name, boolean upperCase) {
+        if (name.isEmpty()) {
+            return;
+        }
+        String normalized = upperCase ? name.toUpperCase(Locale.ROOT) : name;
+        authorities.add(normalized.startsWith(prefix) ? normalized : prefix + normalized);
+    }
+}
@@ -0,0 +1,22 @@
+package com.user.service.verifier;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Spring Security view of a verified token's authorities
+ * Kept apart from VerifiedToken so consumers without spring-security-core never load it
+ */
+public final class GrantedAuthorities {
+
+    private GrantedAuthorities() {
+    }
+
+    public static List<GrantedAuthority> from(VerifiedToken token) {
+        return token.getAuthorities().stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+}
@@ -0,0 +1,169 @@
+package com.user.service.verifier;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.user.service.verifier.TokenVerificationException.Reason;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the issuer's JWK set and the verifiers built from it
+ * An unknown kid triggers an early refetch, so keys published by a rotation are picked up without waiting for the TTL
+ */
+@Slf4j
+public class JwksCache {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI jwksUri;
+    private final Duration timeToLive;
+    private final Duration minRefreshInterval;
+    private final Clock clock;
+    private final HttpClient httpClient;
+    private final AtomicLong fetchCount = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+    private volatile Instant lastAttemptAt = Instant.EPOCH;
+
+    public JwksCache(URI jwksUri, Duration timeToLive, Duration minRefreshInterval, Clock clock) {
+        this.jwksUri = jwksUri;
+        this.timeToLive = timeToLive;
+        this.minRefreshInterval = minRefreshInterval;
+        this.clock = clock;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(REQUEST_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * Returns a verifier for the key the token names, refetching the set at most once per minRefreshInterval
+     */
+    public JWSVerifier getVerifier(String keyId, JWSAlgorithm algorithm) {
+        Snapshot current = snapshot;
+        if (current == null || !clock.instant().isBefore(current.expiresAt())) {
+            current = refresh(current);
+        }
+        JWSVerifier verifier = current.find(keyId);
+        if (verifier == null) {
+            current = refresh(current);
+            verifier = current.find(keyId);
+        }
+        if (verifier == null) {
+            throw new TokenVerificationException(Reason.UNKNOWN_KEY, "No published key matches kid " + keyId);
+        }
+        if (!verifier.supportedJWSAlgorithms().contains(algorithm)) {
+            throw new TokenVerificationException(Reason.UNSUPPORTED_ALGORITHM,
+                    "Key " + keyId + " cannot verify " + algorithm.getName());
+        }
+        return verifier;
+    }
+
+    public long getFetchCount() {
+        return fetchCount.get();
+    }
+
+    // Private helper methods
+
+    private synchronized Snapshot refresh(Snapshot seen) {
+        Snapshot current = snapshot;
+        if (current != seen) {
+            // Another thread refreshed while we waited
+            return current;
+        }
+        Instant now = clock.instant();
+        if (current != null && now.isBefore(lastAttemptAt.plus(minRefreshInterval))) {
+            // Stops tokens with made-up kids from turning into a fetch per request
+            return current;
+        }
+        lastAttemptAt = now;
+        try {
+            Snapshot fetched = fetch(now);
+            snapshot = fetched;
+            return fetched;
+        } catch (IOException | ParseException e) {
+            if (current == null) {
+                throw new TokenVerificationException(Reason.KEYS_UNAVAILABLE,
+                        "Could not fetch signing keys from " + jwksUri, e);
+            }
+            log.warn("Could not refresh signing keys from {}; keeping {} cached keys: {}",
+                    jwksUri, current.verifiers().size(), e.getMessage());
+            return current;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TokenVerificationException(Reason.KEYS_UNAVAILABLE, "Interrupted while fetching signing keys", e);
+        }
+    }
+
+    private Snapshot fetch(Instant now) throws IOException, InterruptedException, ParseException {
+        HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        fetchCount.incrementAndGet();
+        if (response.statusCode() != 200) {
+            throw new IOException("JWKS endpoint returned HTTP " + response.statusCode());
+        }
+
+        Map<String, JWSVerifier> verifiers = new HashMap<>();
+        for (JWK jwk : JWKSet.parse(response.body()).getKeys()) {
+            if (jwk.getKeyUse() != null && jwk.getKeyUse() != KeyUse.SIGNATURE) {
+                continue;
+            }
+            try {
+                JWSVerifier verifier = toVerifier(jwk);
+                if (verifier != null) {
+                    verifiers.put(jwk.getKeyID(), verifier);
+                }
+            } catch (JOSEException e) {
+                log.warn("Skipping unusable key {} from {}: {}", jwk.getKeyID(), jwksUri, e.getMessage());
+            }
+        }
+        log.debug("Fetched {} signing keys from {}", verifiers.size(), jwksUri);
+        return new Snapshot(Collections.unmodifiableMap(verifiers), now.plus(timeToLive));
+    }
+
+    private static JWSVerifier toVerifier(JWK jwk) throws JOSEException {
+        if (jwk instanceof RSAKey rsaKey) {
+            return new RSASSAVerifier(rsaKey);
+        }
+        if (jwk instanceof ECKey ecKey) {
+            return new ECDSAVerifier(ecKey);
+        }
+        return null;
+    }
+
+    private record Snapshot(Map<String, JWSVerifier> verifiers, Instant expiresAt) {
+
+        JWSVerifier find(String keyId) {
+            if (keyId == null) {
+                // Only unambiguous when the issuer publishes a single key
+                return verifiers.size() == 1 ? verifiers.values().iterator().next() : null;
+            }
+            return verifiers.get(keyId);
+        }
+    }
+}
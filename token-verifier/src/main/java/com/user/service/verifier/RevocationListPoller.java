@@ -0,0 +1,120 @@
+package com.user.service.verifier;
+
+import com.nimbusds.jose.util.JSONObjectUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically downloads the ids (jti) of revoked tokens that have not yet expired
+ * Expects a JSON body of the form {"revoked": ["id", ...]}; the last good list is kept while the endpoint is unreachable
+ */
+@Slf4j
+public class RevocationListPoller implements AutoCloseable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI listUri;
+    private final Duration pollInterval;
+    private final HttpClient httpClient;
+
+    private volatile Set<String> revokedIds = Set.of();
+    private volatile String etag;
+    private ScheduledExecutorService pollExecutor;
+
+    public RevocationListPoller(URI listUri, Duration pollInterval) {
+        this.listUri = listUri;
+        this.pollInterval = pollInterval;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    /**
+     * Polls immediately and then every pollInterval on a daemon thread
+     */
+    public synchronized void start() {
+        if (pollExecutor != null) {
+            return;
+        }
+        pollExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pollExecutor.scheduleWithFixedDelay(this::pollQuietly, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Fetches the list once; returns true if it changed
+     */
+    public boolean poll() throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(listUri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+        String currentEtag = etag;
+        if (currentEtag != null) {
+            request.header("If-None-Match", currentEtag);
+        }
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 304) {
+            return false;
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("Revocation list endpoint returned HTTP " + response.statusCode());
+        }
+        try {
+            Map<String, Object> body = JSONObjectUtils.parse(response.body());
+            String[] ids = JSONObjectUtils.getStringArray(body, "revoked");
+            revokedIds = ids == null ? Set.of() : Set.copyOf(Arrays.asList(ids));
+        } catch (ParseException e) {
+            throw new IOException("Revocation list is not valid JSON", e);
+        }
+        etag = response.headers().firstValue("ETag").orElse(null);
+        return true;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revokedIds.contains(tokenId);
+    }
+
+    public int size() {
+        return revokedIds.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (pollExecutor != null) {
+            pollExecutor.shutdownNow();
+            pollExecutor = null;
+        }
+    }
+
+    // Private helper methods
+
+    private void pollQuietly() {
+        try {
+            if (poll()) {
+                log.debug("Revocation list updated with {} ids", revokedIds.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Could not refresh revocation list from {}; keeping {} ids: {}",
+                    listUri, revokedIds.size(), e.getMessage());
+        }
+    }
+}
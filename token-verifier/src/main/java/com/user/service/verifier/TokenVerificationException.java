@@ -0,0 +1,36 @@
+package com.user.service.verifier;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a token fails verification
+ * The reason lets callers tell an expired session from a forged or revoked token
+ */
+@Getter
+public class TokenVerificationException extends RuntimeException {
+
+    private final Reason reason;
+
+    public TokenVerificationException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public TokenVerificationException(Reason reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+    }
+
+    public enum Reason {
+        MALFORMED,
+        UNSUPPORTED_ALGORITHM,
+        UNKNOWN_KEY,
+        INVALID_SIGNATURE,
+        EXPIRED,
+        NOT_YET_VALID,
+        INVALID_ISSUER,
+        INVALID_AUDIENCE,
+        REVOKED,
+        KEYS_UNAVAILABLE
+    }
+}
@@ -0,0 +1,235 @@
+package com.user.service.verifier;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.user.service.verifier.TokenVerificationException.Reason;
+
+import java.net.URI;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Verifies tokens issued by the user service locally, against its published JWK set
+ * Replaces the /auth/validate round trip; thread-safe and meant to be shared for the life of the consumer
+ */
+public class TokenVerifier {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwksCache keys;
+    private final String issuer;
+    private final String audience;
+    private final Duration clockSkew;
+    private final Set<JWSAlgorithm> algorithms;
+    private final AuthorityMapper authorityMapper;
+    private final RevocationListPoller revocationList;
+    private final Clock clock;
+
+    private TokenVerifier(Builder builder) {
+        this.keys = builder.keys != null ? builder.keys
+                : new JwksCache(builder.jwksUri, builder.jwksCacheTtl, builder.jwksMinRefreshInterval, builder.clock);
+        this.issuer = builder.issuer;
+        this.audience = builder.audience;
+        this.clockSkew = builder.clockSkew;
+        this.algorithms = Set.copyOf(builder.algorithms);
+        this.authorityMapper = builder.authorityMapper;
+        this.revocationList = builder.revocationList;
+        this.clock = builder.clock;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Verifies a compact JWS, with or without a "Bearer " prefix
+     *
+     * @throws TokenVerificationException if the token must not be trusted
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new TokenVerificationException(Reason.MALFORMED, "Token is required");
+        }
+        String compact = token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
+
+        SignedJWT jwt;
+        JWTClaimsSet claims;
+        try {
+            jwt = SignedJWT.parse(compact);
+            claims = jwt.getJWTClaimsSet();
+        } catch (ParseException e) {
+            throw new TokenVerificationException(Reason.MALFORMED, "Token is not a signed JWT", e);
+        }
+
+        JWSHeader header = jwt.getHeader();
+        if (!algorithms.contains(header.getAlgorithm())) {
+            throw new TokenVerificationException(Reason.UNSUPPORTED_ALGORITHM,
+                    "Algorithm " + header.getAlgorithm().getName() + " is not accepted");
+        }
+        JWSVerifier verifier = keys.getVerifier(header.getKeyID(), header.getAlgorithm());
+        try {
+            if (!jwt.verify(verifier)) {
+                throw new TokenVerificationException(Reason.INVALID_SIGNATURE, "Token signature is invalid");
+            }
+        } catch (JOSEException e) {
+            throw new TokenVerificationException(Reason.INVALID_SIGNATURE, "Token signature could not be checked", e);
+        }
+
+        checkLifetime(claims);
+        checkIssuerAndAudience(claims);
+        if (revocationList != null && revocationList.isRevoked(claims.getJWTID())) {
+            throw new TokenVerificationException(Reason.REVOKED, "Token has been revoked");
+        }
+
+        return VerifiedToken.builder()
+                .tokenValue(compact)
+                .subject(claims.getSubject())
+                .tokenId(claims.getJWTID())
+                .keyId(header.getKeyID())
+                .issuedAt(toInstant(claims.getIssueTime()))
+                .expiresAt(toInstant(claims.getExpirationTime()))
+                .authorities(authorityMapper.map(claims))
+                .claims(claims)
+                .build();
+    }
+
+    // Private helper methods
+
+    private void checkLifetime(JWTClaimsSet claims) {
+        Instant now = clock.instant();
+        Date expiresAt = claims.getExpirationTime();
+        if (expiresAt == null) {
+            throw new TokenVerificationException(Reason.MALFORMED, "Token has no expiry");
+        }
+        // Skew is allowed in both directions: our clock may lag or lead the issuer's
+        if (now.minus(clockSkew).isAfter(expiresAt.toInstant())) {
+            throw new TokenVerificationException(Reason.EXPIRED, "Token expired at " + expiresAt.toInstant());
+        }
+        Date notBefore = claims.getNotBeforeTime();
+        if (notBefore != null && now.plus(clockSkew).isBefore(notBefore.toInstant())) {
+            throw new TokenVerificationException(Reason.NOT_YET_VALID, "Token is not valid before " + notBefore.toInstant());
+        }
+        Date issuedAt = claims.getIssueTime();
+        if (issuedAt != null && now.plus(clockSkew).isBefore(issuedAt.toInstant())) {
+            throw new TokenVerificationException(Reason.NOT_YET_VALID, "Token is issued in the future");
+        }
+    }
+
+    private void checkIssuerAndAudience(JWTClaimsSet claims) {
+        if (issuer != null && !issuer.equals(claims.getIssuer())) {
+            throw new TokenVerificationException(Reason.INVALID_ISSUER, "Token was not issued by " + issuer);
+        }
+        if (audience != null && (claims.getAudience() == null || !claims.getAudience().contains(audience))) {
+            throw new TokenVerificationException(Reason.INVALID_AUDIENCE, "Token is not intended for " + audience);
+        }
+    }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+
+    /**
+     * Builder for TokenVerifier; only jwksUri (or keys) is required
+     */
+    public static class Builder {
+
+        private URI jwksUri;
+        private JwksCache keys;
+        private Duration jwksCacheTtl = Duration.ofMinutes(5);
+        private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+        private String issuer;
+        private String audience;
+        private Duration clockSkew = Duration.ofSeconds(60);
+        private Set<JWSAlgorithm> algorithms = Set.of(JWSAlgorithm.RS256, JWSAlgorithm.ES256);
+        private AuthorityMapper authorityMapper = AuthorityMapper.standard();
+        private RevocationListPoller revocationList;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        /**
+         * The issuer's JWK set, e.g. http://user-service:8081/oauth2/jwks
+         */
+        public Builder jwksUri(URI jwksUri) {
+            this.jwksUri = jwksUri;
+            return this;
+        }
+
+        /**
+         * Shares one key cache between several verifiers
+         */
+        public Builder keys(JwksCache keys) {
+            this.keys = keys;
+            return this;
+        }
+
+        public Builder jwksCacheTtl(Duration jwksCacheTtl) {
+            this.jwksCacheTtl = jwksCacheTtl;
+            return this;
+        }
+
+        public Builder jwksMinRefreshInterval(Duration jwksMinRefreshInterval) {
+            this.jwksMinRefreshInterval = jwksMinRefreshInterval;
+            return this;
+        }
+
+        public Builder issuer(String issuer) {
+            this.issuer = issuer;
+            return this;
+        }
+
+        public Builder audience(String audience) {
+            this.audience = audience;
+            return this;
+        }
+
+        public Builder clockSkew(Duration clockSkew) {
+            this.clockSkew = clockSkew;
+            return this;
+        }
+
+        public Builder algorithms(Set<JWSAlgorithm> algorithms) {
+            this.algorithms = algorithms;
+            return this;
+        }
+
+        public Builder authorityMapper(AuthorityMapper authorityMapper) {
+            this.authorityMapper = authorityMapper;
+            return this;
+        }
+
+        /**
+         * Rejects tokens whose jti the poller has seen; the caller starts and closes the poller
+         */
+        public Builder revocationList(RevocationListPoller revocationList) {
+            this.revocationList = revocationList;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public TokenVerifier build() {
+            if (jwksUri == null && keys == null) {
+                throw new IllegalStateException("jwksUri or keys is required");
+            }
+            if (clockSkew.isNegative()) {
+                throw new IllegalStateException("clockSkew must not be negative");
+            }
+            Objects.requireNonNull(authorityMapper, "authorityMapper");
+            return new TokenVerifier(this);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.user.service.verifier;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * A token whose signature, lifetime, issuer, audience and revocation status have been checked
+ */
+@Getter
+@Builder
+public class VerifiedToken {
+
+    private final String tokenValue;
+    private final String subject;
+    private final String tokenId;
+    private final String keyId;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+    private final Set<String> authorities;
+    private final JWTClaimsSet claims;
+
+    public boolean hasAuthority(String authority) {
+        return authorities.contains(authority);
+    }
+}
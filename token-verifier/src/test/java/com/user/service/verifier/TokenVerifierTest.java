@@ -0,0 +1,262 @@
+package com.user.service.verifier;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.user.service.verifier.TokenVerificationException.Reason;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for local token verification
+ * Runs against a stand-in JWKS and revocation endpoint on a loopback HttpServer
+ */
+class TokenVerifierTest {
+
+    private static final String ISSUER = "http://localhost:8081";
+
+    private final List<JWK> publishedKeys = new CopyOnWriteArrayList<>();
+    private volatile String revocationBody = "{\"revoked\":[]}";
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+    private HttpServer server;
+    private RSAKey rsaKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rsaKey = new RSAKeyGenerator(2048).keyID("rsa-1").generate();
+        publishedKeys.add(rsaKey.toPublicJWK());
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/oauth2/jwks", exchange -> respond(exchange, new JWKSet(new ArrayList<>(publishedKeys)).toString()));
+        server.createContext("/revocations", exchange -> respond(exchange, revocationBody));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testValidTokenIsVerifiedWithMappedAuthorities() throws Exception {
+        TokenVerifier verifier = verifier().build();
+        String token = sign(rsaKey, JWSAlgorithm.RS256, claims("product-service")
+                .claim("scope", "read write")
+                .claim("roles", List.of("admin"))
+                .build());
+
+        VerifiedToken verified = verifier.verify("Bearer " + token);
+
+        assertEquals("product-service", verified.getSubject());
+        assertEquals("rsa-1", verified.getKeyId());
+        assertEquals(Set.of("SCOPE_read", "SCOPE_write", "ROLE_ADMIN"), verified.getAuthorities());
+        assertTrue(GrantedAuthorities.from(verified).stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+    }
+
+    @Test
+    void testKeysAreCachedAndRotatedKeysFetchedOnUnknownKid() throws Exception {
+        JwksCache keys = new JwksCache(uri("/oauth2/jwks"), Duration.ofMinutes(5), Duration.ZERO, clock);
+        TokenVerifier verifier = verifier().keys(keys).build();
+        for (int i = 0; i < 5; i++) {
+            verifier.verify(sign(rsaKey, JWSAlgorithm.RS256, claims("cached").build()));
+        }
+        assertEquals(1, keys.getFetchCount());
+
+        // The issuer publishes the next key ahead of signing with it
+        RSAKey rotated = new RSAKeyGenerator(2048).keyID("rsa-2").generate();
+        publishedKeys.add(rotated.toPublicJWK());
+
+        assertEquals("rsa-2", verifier.verify(sign(rotated, JWSAlgorithm.RS256, claims("rotated").build())).getKeyId());
+        assertEquals(2, keys.getFetchCount());
+        verifier.verify(sign(rsaKey, JWSAlgorithm.RS256, claims("old").build()));
+        assertEquals(2, keys.getFetchCount());
+    }
+
+    @Test
+    void testUnknownKidRefetchIsThrottled() throws Exception {
+        JwksCache keys = new JwksCache(uri("/oauth2/jwks"), Duration.ofMinutes(5), Duration.ofSeconds(30), clock);
+        TokenVerifier verifier = verifier().keys(keys).build();
+        verifier.verify(sign(rsaKey, JWSAlgorithm.RS256, claims("warm").build()));
+        RSAKey stranger = new RSAKeyGenerator(2048).keyID("unpublished").generate();
+
+        for (int i = 0; i < 3; i++) {
+            assertReason(Reason.UNKNOWN_KEY, verifier, sign(stranger, JWSAlgorithm.RS256, claims("x").build()));
+        }
+        assertEquals(1, keys.getFetchCount());
+    }
+
+    @Test
+    void testClockSkewPolicy() throws Exception {
+        TokenVerifier verifier = verifier().clockSkew(Duration.ofSeconds(30)).build();
+        String token = sign(rsaKey, JWSAlgorithm.RS256, claims("skewed").build());
+
+        clock.set(clock.instant().plus(Duration.ofMinutes(5)).plusSeconds(20));
+        assertEquals("skewed", verifier.verify(token).getSubject());
+
+        clock.set(clock.instant().plusSeconds(20));
+        assertReason(Reason.EXPIRED, verifier, token);
+
+        String future = sign(rsaKey, JWSAlgorithm.RS256, claims("future")
+                .notBeforeTime(Date.from(clock.instant().plusSeconds(120)))
+                .build());
+        assertReason(Reason.NOT_YET_VALID, verifier, future);
+    }
+
+    @Test
+    void testForgedAndMisaddressedTokensAreRejected() throws Exception {
+        TokenVerifier verifier = verifier().audience("product-service").build();
+        String token = sign(rsaKey, JWSAlgorithm.RS256, claims("subject").audience("product-service").build());
+        assertEquals("subject", verifier.verify(token).getSubject());
+
+        RSAKey impostor = new RSAKeyGenerator(2048).keyID("rsa-1").generate();
+        assertReason(Reason.INVALID_SIGNATURE, verifier,
+                sign(impostor, JWSAlgorithm.RS256, claims("subject").audience("product-service").build()));
+        assertReason(Reason.INVALID_AUDIENCE, verifier,
+                sign(rsaKey, JWSAlgorithm.RS256, claims("subject").audience("order-service").build()));
+        assertReason(Reason.INVALID_ISSUER, verifier,
+                sign(rsaKey, JWSAlgorithm.RS256, claims("subject").issuer("http://evil").audience("product-service").build()));
+        assertReason(Reason.MALFORMED, verifier, "not.a.jwt");
+    }
+
+    @Test
+    void testEs256TokensVerifyAgainstPublishedEcKey() throws Exception {
+        ECKey ecKey = new ECKeyGenerator(Curve.P_256).keyID("ec-1").generate();
+        publishedKeys.add(ecKey.toPublicJWK());
+        TokenVerifier verifier = verifier().build();
+
+        assertEquals("ec", verifier.verify(sign(ecKey, JWSAlgorithm.ES256, claims("ec").build())).getSubject());
+
+        TokenVerifier es256Only = verifier().algorithms(Set.of(JWSAlgorithm.ES256)).build();
+        assertReason(Reason.UNSUPPORTED_ALGORITHM, es256Only, sign(rsaKey, JWSAlgorithm.RS256, claims("rs").build()));
+    }
+
+    @Test
+    void testRevokedTokenIdsAreRejectedAfterPoll() throws Exception {
+        try (RevocationListPoller revocations = new RevocationListPoller(uri("/revocations"), Duration.ofMinutes(1))) {
+            TokenVerifier verifier = verifier().revocationList(revocations).build();
+            String tokenId = UUID.randomUUID().toString();
+            String token = sign(rsaKey, JWSAlgorithm.RS256, claims("revoked").jwtID(tokenId).build());
+
+            assertTrue(revocations.poll());
+            assertEquals("revoked", verifier.verify(token).getSubject());
+
+            revocationBody = "{\"revoked\":[\"" + tokenId + "\"]}";
+            assertTrue(revocations.poll());
+            assertReason(Reason.REVOKED, verifier, token);
+        }
+    }
+
+    @Test
+    void testCachedKeysOutliveJwksOutage() throws Exception {
+        TokenVerifier verifier = verifier().jwksCacheTtl(Duration.ofMinutes(1)).build();
+        String token = sign(rsaKey, JWSAlgorithm.RS256, claims("outage").expirationTime(Date.from(clock.instant().plusSeconds(3600))).build());
+        verifier.verify(token);
+
+        server.stop(0);
+        clock.set(clock.instant().plus(Duration.ofMinutes(2)));
+
+        assertEquals("outage", verifier.verify(token).getSubject());
+    }
+
+    private TokenVerifier.Builder verifier() {
+        return TokenVerifier.builder()
+                .jwksUri(uri("/oauth2/jwks"))
+                .issuer(ISSUER)
+                .clock(clock);
+    }
+
+    private JWTClaimsSet.Builder claims(String subject) {
+        Instant now = clock.instant();
+        return new JWTClaimsSet.Builder()
+                .subject(subject)
+                .issuer(ISSUER)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(Duration.ofMinutes(5))));
+    }
+
+    private static String sign(JWK key, JWSAlgorithm algorithm, JWTClaimsSet claims) throws JOSEException {
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(algorithm).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(key instanceof ECKey ecKey ? new ECDSASigner(ecKey) : new RSASSASigner((RSAKey) key));
+        return jwt.serialize();
+    }
+
+    private static void assertReason(Reason expected, TokenVerifier verifier, String token) {
+        TokenVerificationException e = assertThrows(TokenVerificationException.class, () -> verifier.verify(token));
+        assertEquals(expected, e.getReason(), e.getMessage());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.user.service.conf;
+
+import com.user.service.dto.response.DataSourcePoolStatsDto;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint (/actuator/datasource) reporting HikariCP pool gauges and acquisition-time percentiles,
+ * keyed by pool name so the replica pool is listed next to the primary when read routing is enabled
+ * Live counts come from the pool MXBean; timings from the hikaricp.* meters Boot binds to the pool
+ */
+@Component
+@Endpoint(id = "datasource")
+public class DataSourcePoolEndpoint {
+
+    @Autowired
+    private List<DataSource> dataSources;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, DataSourcePoolStatsDto> pools() throws SQLException {
+        // The routing DataSource unwraps to the primary pool, so each pool is reported once by name
+        Map<String, DataSourcePoolStatsDto> pools = new TreeMap<>();
+        for (DataSource dataSource : dataSources) {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+                pools.computeIfAbsent(hikari.getPoolName(), name -> pool(hikari));
+            }
+        }
+        return pools;
+    }
+
+    // Private helper methods
+
+    private DataSourcePoolStatsDto pool(HikariDataSource hikari) {
+        String pool = hikari.getPoolName();
+        DataSourcePoolStatsDto.DataSourcePoolStatsDtoBuilder stats = DataSourcePoolStatsDto.builder()
+                .poolName(pool)
+                .maximumPoolSize(hikari.getMaximumPoolSize())
+                .minimumIdle(hikari.getMinimumIdle())
+                .connectionTimeoutMillis(hikari.getConnectionTimeout())
+                .leakDetectionThresholdMillis(hikari.getLeakDetectionThreshold());
+
+        HikariPoolMXBean poolBean = hikari.getHikariPoolMXBean();
+        if (poolBean != null) {
+            stats.activeConnections(poolBean.getActiveConnections())
+                    .idleConnections(poolBean.getIdleConnections())
+                    .totalConnections(poolBean.getTotalConnections())
+                    .pendingThreads(poolBean.getThreadsAwaitingConnection());
+        }
+
+        Timer acquire = timer("hikaricp.connections.acquire", pool);
+        if (acquire != null) {
+            HistogramSnapshot snapshot = acquire.takeSnapshot();
+            stats.acquireCount(snapshot.count())
+                    .acquireMeanMillis(snapshot.mean(TimeUnit.MILLISECONDS))
+                    .acquireMaxMillis(snapshot.max(TimeUnit.MILLISECONDS))
+                    .acquireP50Millis(percentile(snapshot, 0.5))
+                    .acquireP95Millis(percentile(snapshot, 0.95))
+                    .acquireP99Millis(percentile(snapshot, 0.99));
+        }
+        Timer usage = timer("hikaricp.connections.usage", pool);
+        if (usage != null) {
+            stats.usageMeanMillis(usage.mean(TimeUnit.MILLISECONDS))
+                    .usageMaxMillis(usage.max(TimeUnit.MILLISECONDS));
+        }
+        Timer creation = timer("hikaricp.connections.creation", pool);
+        if (creation != null) {
+            stats.creationMeanMillis(creation.mean(TimeUnit.MILLISECONDS));
+        }
+        Counter timeouts = meterRegistry.find("hikaricp.connections.timeout").tag("pool", pool).counter();
+        if (timeouts != null) {
+            stats.connectionTimeouts((long) timeouts.count());
+        }
+        return stats.build();
+    }
+
+    private Timer timer(String name, String pool) {
+        return meterRegistry.find(name).tag("pool", pool).timer();
+    }
+
+    private static Double percentile(HistogramSnapshot snapshot, double percentile) {
+        // Only present when management.metrics.distribution.percentiles is configured for the meter
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return null;
+    }
+}
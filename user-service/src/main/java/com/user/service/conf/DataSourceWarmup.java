@@ -0,0 +1,74 @@
+package com.user.service.conf;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Opens each pool's minimum-idle connections before the application reports ready
+ * Hikari otherwise fills the pool in the background, so the first requests after a deploy pay for connection setup
+ */
+@Component
+@Slf4j
+public class DataSourceWarmup implements ApplicationRunner {
+
+    @Autowired
+    private List<DataSource> dataSources;
+
+    @Value("${app.datasource.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        if (!enabled) {
+            return;
+        }
+        // Primary and replica pools are also reachable through the routing DataSource; warm each once
+        Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DataSource dataSource : dataSources) {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                pools.add(dataSource.unwrap(HikariDataSource.class));
+            }
+        }
+        for (HikariDataSource pool : pools) {
+            warmUp(pool);
+        }
+    }
+
+    private void warmUp(HikariDataSource hikari) throws SQLException {
+        int target = Math.max(1, hikari.getMinimumIdle());
+        long start = System.nanoTime();
+
+        // Holding them all at once forces the pool to open that many distinct connections
+        List<Connection> connections = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                Connection connection = hikari.getConnection();
+                connections.add(connection);
+                connection.isValid(1);
+            }
+        } catch (SQLException e) {
+            log.warn("Connection pool warm-up stopped after {} of {} connections: {}",
+                    connections.size(), target, e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        log.info("Warmed up {} connections in pool {} in {} ms",
+                connections.size(), hikari.getPoolName(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,39 @@
+package com.user.service.conf;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections for read-only transactions to the replica pool and everything else to the primary
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag is only known once the transaction has begun
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaStalenessPolicy stalenessPolicy;
+
+    public ReplicaRoutingDataSource(ReplicaStalenessPolicy stalenessPolicy) {
+        this.stalenessPolicy = stalenessPolicy;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return stalenessPolicy.requiresPrimary() ? Target.PRIMARY : Target.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stalenessPolicy.recordWrite();
+                }
+            });
+        }
+        return Target.PRIMARY;
+    }
+}
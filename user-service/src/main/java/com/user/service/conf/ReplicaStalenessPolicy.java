@@ -0,0 +1,66 @@
+package com.user.service.conf;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides when read-only work must still go to the primary because the replica may lag behind
+ * A principal that committed a write is pinned to the primary for pin-after-write-ms (read-your-writes)
+ */
+public class ReplicaStalenessPolicy {
+
+    private final long pinAfterWriteMillis;
+    private final int maxPinnedPrincipals;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReplicaStalenessPolicy(long pinAfterWriteMillis, int maxPinnedPrincipals) {
+        this.pinAfterWriteMillis = pinAfterWriteMillis;
+        this.maxPinnedPrincipals = maxPinnedPrincipals;
+    }
+
+    /**
+     * Returns true if the current principal wrote recently enough that the replica may not have the change yet
+     */
+    public boolean requiresPrimary() {
+        String principal = currentPrincipal();
+        if (principal == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(principal);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            pinnedUntil.remove(principal, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Pins the current principal to the primary; called once its write transaction has committed
+     */
+    public void recordWrite() {
+        String principal = currentPrincipal();
+        if (principal == null || pinAfterWriteMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (pinnedUntil.size() >= maxPinnedPrincipals) {
+            pinnedUntil.values().removeIf(until -> until < now);
+        }
+        pinnedUntil.put(principal, now + pinAfterWriteMillis);
+    }
+
+    public int getPinnedPrincipals() {
+        return pinnedUntil.size();
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
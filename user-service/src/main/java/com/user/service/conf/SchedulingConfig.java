@@ -0,0 +1,12 @@
+package com.user.service.conf;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (login bookkeeping flushes, cleanup tasks)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
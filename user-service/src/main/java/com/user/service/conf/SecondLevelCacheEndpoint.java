@@ -0,0 +1,65 @@
+package com.user.service.conf;
+
+import com.user.service.dto.response.SecondLevelCacheStatsDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Actuator endpoint (/actuator/l2cache) reporting second-level cache hit ratios per region
+ * Counters need hibernate.generate_statistics; without it only the enabled flags are meaningful
+ */
+@Component
+@Endpoint(id = "l2cache")
+public class SecondLevelCacheEndpoint {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public SecondLevelCacheStatsDto cache() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Statistics statistics = sessionFactory.getStatistics();
+
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+        List<SecondLevelCacheStatsDto.RegionStats> regions = new ArrayList<>(regionNames.length);
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            regions.add(SecondLevelCacheStatsDto.RegionStats.builder()
+                    .region(regionName)
+                    .hitCount(region.getHitCount())
+                    .missCount(region.getMissCount())
+                    .putCount(region.getPutCount())
+                    .hitRatio(ratio(region.getHitCount(), region.getMissCount()))
+                    .elementCountInMemory(region.getElementCountInMemory())
+                    .build());
+        }
+
+        return SecondLevelCacheStatsDto.builder()
+                .enabled(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled())
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .hitCount(statistics.getSecondLevelCacheHitCount())
+                .missCount(statistics.getSecondLevelCacheMissCount())
+                .putCount(statistics.getSecondLevelCachePutCount())
+                .hitRatio(ratio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount()))
+                .naturalIdHitCount(statistics.getNaturalIdCacheHitCount())
+                .naturalIdMissCount(statistics.getNaturalIdCacheMissCount())
+                .naturalIdHitRatio(ratio(statistics.getNaturalIdCacheHitCount(), statistics.getNaturalIdCacheMissCount()))
+                .regions(regions)
+                .build();
+    }
+
+    private static double ratio(long hits, long misses) {
+        return hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+    }
+}
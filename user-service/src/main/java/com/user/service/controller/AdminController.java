@@ -1,18 +1,30 @@
 package com.user.service.controller;
 
+import com.user.service.dto.response.AvailabilityIndexStatsDto;
+import com.user.service.dto.response.BulkImportResponseDto;
+import com.user.service.dto.response.EmailCampaignResponseDto;
 import com.user.service.dto.response.UserResponseDto;
 import com.user.service.entity.Role;
+import com.user.service.services.AvailabilityIndexService;
+import com.user.service.services.EmailCampaignService;
+import com.user.service.services.UserImportService;
 import com.user.service.services.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -27,6 +39,15 @@ public class AdminController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private AvailabilityIndexService availabilityIndexService;
+
+    @Autowired
+    private EmailCampaignService emailCampaignService;
+
     /**
      * Get all users with pagination
      * GET /admin/users
@@ -173,6 +194,133 @@ public class AdminController {
         }
     }
 
+    /**
+     * Bulk import users from an uploaded CSV file
+     * POST /admin/users/import (multipart/form-data, part "file")
+     * Requires ADMIN role
+     */
+    @PostMapping(value = "/users/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkImportResponseDto> importUsers(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean sendVerificationEmails) throws IOException {
+        log.info("Admin importing users from file: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+
+        try (InputStream csv = file.getInputStream()) {
+            return ResponseEntity.ok(userImportService.importUsers(csv, sendVerificationEmails));
+        } catch (Exception e) {
+            log.error("Error importing users from file: {}", file.getOriginalFilename(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Bulk import users from a streamed CSV request body
+     * POST /admin/users/import (text/csv)
+     * Requires ADMIN role
+     */
+    @PostMapping(value = "/users/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkImportResponseDto> importUsersStream(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "false") boolean sendVerificationEmails) throws IOException {
+        log.info("Admin importing users from CSV stream");
+
+        try {
+            return ResponseEntity.ok(userImportService.importUsers(request.getInputStream(), sendVerificationEmails));
+        } catch (Exception e) {
+            log.error("Error importing users from CSV stream", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Get username/email availability index statistics
+     * GET /admin/availability-index
+     * Requires ADMIN role
+     */
+    @GetMapping("/availability-index")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AvailabilityIndexStatsDto> getAvailabilityIndexStats() {
+        log.info("Admin getting availability index statistics");
+        return ResponseEntity.ok(availabilityIndexService.getStats());
+    }
+
+    /**
+     * Rebuild the username/email availability index from the users table
+     * POST /admin/availability-index/rebuild
+     * Requires ADMIN role
+     */
+    @PostMapping("/availability-index/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AvailabilityIndexStatsDto> rebuildAvailabilityIndex() {
+        log.info("Admin rebuilding availability index");
+
+        try {
+            return ResponseEntity.ok(availabilityIndexService.rebuild());
+        } catch (Exception e) {
+            log.error("Error rebuilding availability index", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Start re-sending verification emails to all unverified users
+     * POST /admin/campaigns/verification
+     * Requires ADMIN role
+     */
+    @PostMapping("/campaigns/verification")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EmailCampaignResponseDto> startVerificationCampaign() {
+        String admin = SecurityContextHolder.getContext().getAuthentication().getName();
+        log.info("Admin {} starting verification email campaign", admin);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(emailCampaignService.startVerificationCampaign(admin));
+    }
+
+    /**
+     * List email campaigns with progress, newest first
+     * GET /admin/campaigns
+     * Requires ADMIN role
+     */
+    @GetMapping("/campaigns")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<EmailCampaignResponseDto>> getCampaigns() {
+        log.info("Admin getting email campaigns");
+        return ResponseEntity.ok(emailCampaignService.getCampaigns());
+    }
+
+    /**
+     * Get email campaign progress
+     * GET /admin/campaigns/{campaignId}
+     * Requires ADMIN role
+     */
+    @GetMapping("/campaigns/{campaignId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EmailCampaignResponseDto> getCampaign(@PathVariable Long campaignId) {
+        log.info("Admin getting email campaign: {}", campaignId);
+        return ResponseEntity.ok(emailCampaignService.getCampaign(campaignId));
+    }
+
+    /**
+     * Pause, resume or cancel an email campaign
+     * POST /admin/campaigns/{campaignId}/{action} (pause | resume | cancel)
+     * Requires ADMIN role
+     */
+    @PostMapping("/campaigns/{campaignId}/{action}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EmailCampaignResponseDto> controlCampaign(
+            @PathVariable Long campaignId,
+            @PathVariable String action) {
+        log.info("Admin {} email campaign: {}", action, campaignId);
+
+        return switch (action) {
+            case "pause" -> ResponseEntity.ok(emailCampaignService.pauseCampaign(campaignId));
+            case "resume" -> ResponseEntity.ok(emailCampaignService.resumeCampaign(campaignId));
+            case "cancel" -> ResponseEntity.ok(emailCampaignService.cancelCampaign(campaignId));
+            default -> ResponseEntity.badRequest().build();
+        };
+    }
+
     /**
      * Get system statistics
      * GET /admin/stats
@@ -19,9 +19,12 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.user.service.dto.request.AuthRequestDto;
 import com.user.service.dto.request.LogoutRequestDto;
+import com.user.service.dto.request.TokenValidationBatchRequestDto;
 import com.user.service.dto.response.AuthResponseDto;
 import com.user.service.dto.response.BaseResponseDto;
+import com.user.service.dto.response.TokenValidationBatchResponseDto;
 import com.user.service.services.AuthService;
+import com.user.service.services.TokenValidationService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -32,8 +35,11 @@ public class AuthController {
 
     AuthService authService;
 
-    public AuthController(AuthService authService) {
+    TokenValidationService tokenValidationService;
+
+    public AuthController(AuthService authService, TokenValidationService tokenValidationService) {
         this.authService = authService;
+        this.tokenValidationService = tokenValidationService;
     }
 
     @PostMapping("/login")
@@ -65,5 +71,11 @@ public class AuthController {
         authService.validateToken(token);
         return ResponseEntity.ok().build();
     }
+
+    // Validate many tokens in one round trip; invalid tokens are reported per entry, not as an error status
+    @PostMapping("/validate/batch")
+    public ResponseEntity<TokenValidationBatchResponseDto> validateTokens(@Valid @RequestBody TokenValidationBatchRequestDto request) {
+        return ResponseEntity.ok(tokenValidationService.validateBatch(request.getTokens()));
+    }
     
 }
@@ -19,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
 
 import com.user.service.dto.ClientRegistrationDto;
 import com.user.service.dto.ClientResponseDto;
+import com.user.service.security.ClientCredentialsTokenCache;
+import com.user.service.security.ClientSecretCache;
 import com.user.service.security.models.Client;
 import com.user.service.security.repositories.ClientRepository;
 
@@ -45,6 +47,12 @@ public class ClientController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ClientSecretCache clientSecretCache;
+
+    @Autowired
+    private ClientCredentialsTokenCache clientCredentialsTokenCache;
+
     /**
      * Register a new OAuth2 client (Admin only)
      */
@@ -81,6 +89,7 @@ public class ClientController {
                     })
                     .clientSettings(ClientSettings.builder()
                             .requireAuthorizationConsent(true)
+                            .setting(ClientCredentialsTokenCache.REUSE_ACCESS_TOKEN_SETTING, Boolean.TRUE.equals(request.getReuseAccessTokens()))
                             .build())
                     .tokenSettings(TokenSettings.builder()
                             .build())
@@ -162,6 +171,8 @@ public class ClientController {
             Optional<Client> client = clientRepository.findByClientId(clientId);
             if (client.isPresent()) {
                 clientRepository.delete(client.get());
+                clientSecretCache.invalidate(client.get().getClientSecret());
+                clientCredentialsTokenCache.invalidateClient(client.get().getId());
                 return ResponseEntity.noContent().build();
             }
             return ResponseEntity.notFound().build();
@@ -216,6 +227,8 @@ public class ClientController {
                     })
                     .clientSettings(ClientSettings.builder()
                             .requireAuthorizationConsent(true)
+                            // Product service fetches tokens constantly; hand back the still-valid one
+                            .setting(ClientCredentialsTokenCache.REUSE_ACCESS_TOKEN_SETTING, true)
                             .build())
                     .tokenSettings(TokenSettings.builder()
                             .build())
@@ -1,21 +1,33 @@
 package com.user.service.controller;
 
 import com.user.service.dto.request.AddressRequestDto;
+import com.user.service.dto.request.UserBatchLookupRequestDto;
 import com.user.service.dto.request.UserProfileRequestDto;
 import com.user.service.dto.response.AddressResponseDto;
+import com.user.service.dto.response.UserAccountResponseDto;
+import com.user.service.dto.response.UserAccountResponseDto.Part;
+import com.user.service.dto.response.UserBatchLookupResponseDto;
 import com.user.service.dto.response.UserResponseDto;
+import com.user.service.error.ValidationException;
+import com.user.service.services.EntityTagService;
 import com.user.service.services.UserService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Controller for user profile management operations
@@ -29,19 +41,25 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private EntityTagService entityTagService;
+
+    // Clients may keep a copy but must revalidate it with If-None-Match on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     /**
      * Get current user's profile
      * GET /users/profile
      */
     @GetMapping("/profile")
     @PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
-    public ResponseEntity<UserResponseDto> getCurrentUserProfile() {
+    public ResponseEntity<UserResponseDto> getCurrentUserProfile(WebRequest webRequest) {
         Long currentUserId = getCurrentUserId();
         log.info("Getting current user profile for user ID: {}", currentUserId);
 
         try {
-            UserResponseDto userProfile = userService.getUserProfile(currentUserId);
-            return ResponseEntity.ok(userProfile);
+            return conditionalGet(webRequest, entityTagService.getProfileETag(currentUserId),
+                    () -> userService.getUserProfile(currentUserId));
         } catch (Exception e) {
             log.error("Error getting user profile for user ID: {}", currentUserId, e);
             throw e;
@@ -54,18 +72,82 @@ public class UserController {
      */
     @GetMapping("/{userId}/profile")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<UserResponseDto> getUserProfile(@PathVariable Long userId) {
+    public ResponseEntity<UserResponseDto> getUserProfile(@PathVariable Long userId, WebRequest webRequest) {
         log.info("Admin getting user profile for user ID: {}", userId);
 
         try {
-            UserResponseDto userProfile = userService.getUserProfile(userId);
-            return ResponseEntity.ok(userProfile);
+            return conditionalGet(webRequest, entityTagService.getProfileETag(userId),
+                    () -> userService.getUserProfile(userId));
         } catch (Exception e) {
             log.error("Error getting user profile for user ID: {}", userId, e);
             throw e;
         }
     }
 
+    /**
+     * Get current user's profile and addresses in one call
+     * GET /users/account?fields=profile,addresses,defaultAddress
+     */
+    @GetMapping("/account")
+    @PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
+    public ResponseEntity<UserAccountResponseDto> getCurrentUserAccount(
+            @RequestParam(required = false) List<String> fields,
+            WebRequest webRequest) {
+        Long currentUserId = getCurrentUserId();
+        log.info("Getting account for current user ID: {}", currentUserId);
+
+        try {
+            Set<Part> parts = parseAccountFields(fields);
+            return conditionalGet(webRequest, entityTagService.getAccountETag(currentUserId, parts),
+                    () -> userService.getUserAccount(currentUserId, parts));
+        } catch (Exception e) {
+            log.error("Error getting account for user ID: {}", currentUserId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Get user profile and addresses by user ID (Admin only)
+     * GET /users/{userId}/account?fields=profile,addresses,defaultAddress
+     */
+    @GetMapping("/{userId}/account")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserAccountResponseDto> getUserAccount(
+            @PathVariable Long userId,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest webRequest) {
+        log.info("Admin getting account for user ID: {}", userId);
+
+        try {
+            Set<Part> parts = parseAccountFields(fields);
+            return conditionalGet(webRequest, entityTagService.getAccountETag(userId, parts),
+                    () -> userService.getUserAccount(userId, parts));
+        } catch (Exception e) {
+            log.error("Error getting account for user ID: {}", userId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Look up many users by ID for service-to-service enrichment (Admin only)
+     * POST /users/batch
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserBatchLookupResponseDto> getUsersByIds(
+            @Valid @RequestBody UserBatchLookupRequestDto requestDto) {
+        log.info("Admin looking up {} user IDs", requestDto.getUserIds().size());
+
+        try {
+            UserBatchLookupResponseDto users = userService.getUserSummaries(
+                    requestDto.getUserIds(), Boolean.TRUE.equals(requestDto.getUseCache()));
+            return ResponseEntity.ok(users);
+        } catch (Exception e) {
+            log.error("Error looking up {} user IDs", requestDto.getUserIds().size(), e);
+            throw e;
+        }
+    }
+
     /**
      * Update current user's profile
      * PUT /users/profile
@@ -112,13 +194,13 @@ public class UserController {
      */
     @GetMapping("/addresses")
     @PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
-    public ResponseEntity<List<AddressResponseDto>> getCurrentUserAddresses() {
+    public ResponseEntity<List<AddressResponseDto>> getCurrentUserAddresses(WebRequest webRequest) {
         Long currentUserId = getCurrentUserId();
         log.info("Getting addresses for current user ID: {}", currentUserId);
 
         try {
-            List<AddressResponseDto> addresses = userService.getUserAddresses(currentUserId);
-            return ResponseEntity.ok(addresses);
+            return conditionalGet(webRequest, entityTagService.getAddressesETag(currentUserId),
+                    () -> userService.getUserAddresses(currentUserId));
         } catch (Exception e) {
             log.error("Error getting addresses for user ID: {}", currentUserId, e);
             throw e;
@@ -131,12 +213,12 @@ public class UserController {
      */
     @GetMapping("/{userId}/addresses")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<AddressResponseDto>> getUserAddresses(@PathVariable Long userId) {
+    public ResponseEntity<List<AddressResponseDto>> getUserAddresses(@PathVariable Long userId, WebRequest webRequest) {
         log.info("Admin getting addresses for user ID: {}", userId);
 
         try {
-            List<AddressResponseDto> addresses = userService.getUserAddresses(userId);
-            return ResponseEntity.ok(addresses);
+            return conditionalGet(webRequest, entityTagService.getAddressesETag(userId),
+                    () -> userService.getUserAddresses(userId));
         } catch (Exception e) {
             log.error("Error getting addresses for user ID: {}", userId, e);
             throw e;
@@ -149,13 +231,13 @@ public class UserController {
      */
     @GetMapping("/addresses/{addressId}")
     @PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
-    public ResponseEntity<AddressResponseDto> getCurrentUserAddress(@PathVariable Long addressId) {
+    public ResponseEntity<AddressResponseDto> getCurrentUserAddress(@PathVariable Long addressId, WebRequest webRequest) {
         Long currentUserId = getCurrentUserId();
         log.info("Getting address ID: {} for current user ID: {}", addressId, currentUserId);
 
         try {
-            AddressResponseDto address = userService.getAddress(currentUserId, addressId);
-            return ResponseEntity.ok(address);
+            return conditionalGet(webRequest, entityTagService.getAddressETag(currentUserId, addressId),
+                    () -> userService.getAddress(currentUserId, addressId));
         } catch (Exception e) {
             log.error("Error getting address ID: {} for user ID: {}", addressId, currentUserId, e);
             throw e;
@@ -170,18 +252,50 @@ public class UserController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<AddressResponseDto> getUserAddress(
             @PathVariable Long userId,
-            @PathVariable Long addressId) {
+            @PathVariable Long addressId,
+            WebRequest webRequest) {
         log.info("Admin getting address ID: {} for user ID: {}", addressId, userId);
 
         try {
-            AddressResponseDto address = userService.getAddress(userId, addressId);
-            return ResponseEntity.ok(address);
+            return conditionalGet(webRequest, entityTagService.getAddressETag(userId, addressId),
+                    () -> userService.getAddress(userId, addressId));
         } catch (Exception e) {
             log.error("Error getting address ID: {} for user ID: {}", addressId, userId, e);
             throw e;
         }
     }
 
+    // Helper method for conditional GETs: the ETag comes from a version-only query, so a match
+    // answers 304 without loading the entity; a write between the two reads only costs one extra 200
+    private static <T> ResponseEntity<T> conditionalGet(WebRequest webRequest, String eTag, Supplier<T> body) {
+        if (eTag == null) {
+            // Resource does not exist; let the service raise its usual not-found error
+            return ResponseEntity.ok(body.get());
+        }
+        if (webRequest.checkNotModified(eTag)) {
+            // checkNotModified has already written the ETag header
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(body.get());
+    }
+
+    // Helper method to map the fields parameter to account parts; none means all
+    private static Set<Part> parseAccountFields(List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return EnumSet.allOf(Part.class);
+        }
+        Set<Part> parts = EnumSet.noneOf(Part.class);
+        for (String field : fields) {
+            Part part = Arrays.stream(Part.values())
+                    .filter(candidate -> candidate.getFieldName().equalsIgnoreCase(field.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new ValidationException(List.of("Unknown field: " + field
+                            + " (expected profile, addresses or defaultAddress)")));
+            parts.add(part);
+        }
+        return parts;
+    }
+
     // Helper method to get current user ID
     private Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -355,13 +469,13 @@ public class UserController {
      */
     @GetMapping("/addresses/default")
     @PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
-    public ResponseEntity<AddressResponseDto> getCurrentUserDefaultAddress() {
+    public ResponseEntity<AddressResponseDto> getCurrentUserDefaultAddress(WebRequest webRequest) {
         Long currentUserId = getCurrentUserId();
         log.info("Getting default address for current user ID: {}", currentUserId);
 
         try {
-            AddressResponseDto defaultAddress = userService.getDefaultAddress(currentUserId);
-            return ResponseEntity.ok(defaultAddress);
+            return conditionalGet(webRequest, entityTagService.getDefaultAddressETag(currentUserId),
+                    () -> userService.getDefaultAddress(currentUserId));
         } catch (Exception e) {
             log.error("Error getting default address for user ID: {}", currentUserId, e);
             throw e;
@@ -374,12 +488,12 @@ public class UserController {
      */
     @GetMapping("/{userId}/addresses/default")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<AddressResponseDto> getUserDefaultAddress(@PathVariable Long userId) {
+    public ResponseEntity<AddressResponseDto> getUserDefaultAddress(@PathVariable Long userId, WebRequest webRequest) {
         log.info("Admin getting default address for user ID: {}", userId);
 
         try {
-            AddressResponseDto defaultAddress = userService.getDefaultAddress(userId);
-            return ResponseEntity.ok(defaultAddress);
+            return conditionalGet(webRequest, entityTagService.getDefaultAddressETag(userId),
+                    () -> userService.getDefaultAddress(userId));
         } catch (Exception e) {
             log.error("Error getting default address for user ID: {}", userId, e);
             throw e;
@@ -0,0 +1,17 @@
+package com.user.service.dao;
+
+import java.util.List;
+
+import com.user.service.entity.EmailOutbox;
+
+/**
+ * JDBC batch operations for the email outbox.
+ * Used when a single transaction queues many emails at once.
+ */
+public interface EmailOutboxDao {
+
+    /**
+     * Insert outbox entries in a single JDBC batch
+     */
+    void insertAll(List<EmailOutbox> entries);
+}
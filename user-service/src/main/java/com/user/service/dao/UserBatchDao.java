@@ -0,0 +1,31 @@
+package com.user.service.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.user.service.entity.User;
+import com.user.service.entity.VerificationToken;
+
+/**
+ * JDBC batch operations for bulk user onboarding and login bookkeeping.
+ * Bypasses the JPA persistence context so thousands of rows can be written
+ * with a handful of round trips.
+ */
+public interface UserBatchDao {
+
+    /**
+     * Insert users in a single JDBC batch and populate their generated IDs
+     */
+    void insertUsers(List<User> users);
+
+    /**
+     * Insert verification tokens in a single JDBC batch (users must already have IDs)
+     */
+    void insertVerificationTokens(List<VerificationToken> tokens);
+
+    /**
+     * Apply coalesced last-login stamps in a single JDBC batch; never moves a stamp backwards
+     */
+    void updateLastLogins(Map<Long, LocalDateTime> lastLogins);
+}
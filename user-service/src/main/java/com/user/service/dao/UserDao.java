@@ -0,0 +1,92 @@
+package com.user.service.dao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.user.service.entity.User;
+import com.user.service.entity.Role;
+import com.user.service.repository.projection.UserIdentityView;
+import com.user.service.repository.projection.UserRoleView;
+import com.user.service.repository.projection.UserSummaryView;
+import com.user.service.repository.projection.UserVersionView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface UserDao {
+    void save(User user);
+
+    void saveAndFlush(User user);
+
+    Optional<User> findByUsername(String username);
+
+    // Reads from the primary so a just-committed sign-up or verification is visible
+    Optional<User> findByUsernameForLogin(String username);
+
+    Optional<User> findByEmail(String email);
+
+    Optional<User> findByUsernameAndPassword(String username, String password);
+
+    Optional<User> findByEmailAndPassword(String email, String password);
+
+    Optional<User> findById(Long id);
+
+    List<User> findAllById(Collection<Long> ids);
+
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    List<UserIdentityView> findIdentitiesByUsernameOrEmail(String username, String email);
+
+    List<UserIdentityView> findIdentitiesAfterId(Long afterId, int limit);
+
+    List<Long> findUnverifiedIdsAfterId(Long afterId, int limit);
+    
+    // Admin methods for role-based access control
+    void delete(User user);
+    
+    List<User> findAll();
+    
+    Page<User> findAll(Pageable pageable);
+    
+    List<User> findByRole(Role role);
+    
+    long count();
+    
+    long countByAccountLockedFalseAndEmailVerifiedTrue();
+    
+    long countByAccountLockedTrue();
+    
+    long countByRole(Role role);
+
+    // Login bookkeeping
+
+    boolean lockAfterFailedLogins(Long id, int attempts);
+
+    void clearFailedLoginAttempts(Long id);
+
+    boolean markEmailVerifiedByToken(String token);
+
+    boolean activateByToken(String token);
+
+    // Bulk import uniqueness checks
+
+    List<String> findExistingUsernames(Collection<String> usernames);
+
+    List<String> findExistingEmails(Collection<String> emails);
+
+    // Batch token validation
+
+    List<UserRoleView> findRolesByUsernameIn(Collection<String> usernames);
+
+    // Batch user lookup
+
+    List<UserSummaryView> findSummariesByIdIn(Collection<Long> ids);
+
+    List<User> findCachedByIds(Collection<Long> ids);
+
+    // Conditional GETs
+
+    Optional<UserVersionView> findVersionById(Long id);
+}
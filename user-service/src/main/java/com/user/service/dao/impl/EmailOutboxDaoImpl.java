@@ -0,0 +1,55 @@
+package com.user.service.dao.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.user.service.dao.EmailOutboxDao;
+import com.user.service.entity.EmailOutbox;
+
+@Component
+public class EmailOutboxDaoImpl implements EmailOutboxDao {
+
+    private static final String INSERT_OUTBOX_SQL =
+            "INSERT INTO email_outbox (email_type, user_id, token, campaign_id, status, attempts, next_attempt_at, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<EmailOutbox> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EmailOutbox entry = entries.get(i);
+                ps.setString(1, entry.getEmailType().name());
+                ps.setLong(2, entry.getUserId());
+                ps.setString(3, entry.getToken());
+                ps.setObject(4, entry.getCampaignId(), Types.BIGINT);
+                ps.setString(5, entry.getStatus().name());
+                ps.setInt(6, entry.getAttempts());
+                ps.setTimestamp(7, entry.getNextAttemptAt() != null ? Timestamp.valueOf(entry.getNextAttemptAt()) : now);
+                ps.setTimestamp(8, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+}
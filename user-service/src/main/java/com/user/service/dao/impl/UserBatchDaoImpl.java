@@ -0,0 +1,146 @@
+package com.user.service.dao.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import com.user.service.dao.UserBatchDao;
+import com.user.service.entity.User;
+import com.user.service.entity.VerificationToken;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Component
+public class UserBatchDaoImpl implements UserBatchDao {
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (username, email, password, first_name, last_name, phone, role, "
+            + "email_verified, account_locked, failed_login_attempts, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_TOKEN_SQL =
+            "INSERT INTO verification_tokens (token, user_id, token_type, expiry_date, used, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    // Touches only last_login, so updated_at and the rest of the row are left alone
+    private static final String UPDATE_LAST_LOGIN_SQL =
+            "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void insertUsers(List<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_USER_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        User user = users.get(i);
+                        ps.setString(1, user.getUsername());
+                        ps.setString(2, user.getEmail());
+                        ps.setString(3, user.getPassword());
+                        ps.setString(4, user.getFirstName());
+                        ps.setString(5, user.getLastName());
+                        ps.setString(6, user.getPhone());
+                        ps.setString(7, user.getRole().name());
+                        ps.setBoolean(8, user.getEmailVerified());
+                        ps.setBoolean(9, user.getAccountLocked());
+                        ps.setInt(10, user.getFailedLoginAttempts());
+                        ps.setTimestamp(11, now);
+                        ps.setTimestamp(12, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return users.size();
+                    }
+                },
+                keyHolder);
+
+        // Generated keys come back in batch order
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < users.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            users.get(i).setId(id.longValue());
+        }
+    }
+
+    @Override
+    public void insertVerificationTokens(List<VerificationToken> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                VerificationToken token = tokens.get(i);
+                ps.setString(1, token.getToken());
+                ps.setLong(2, token.getUser().getId());
+                ps.setString(3, token.getTokenType().name());
+                ps.setTimestamp(4, Timestamp.valueOf(token.getExpiryDate()));
+                ps.setBoolean(5, token.getUsed());
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return tokens.size();
+            }
+        });
+    }
+
+    @Override
+    public void updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+        if (lastLogins.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, LocalDateTime>> entries = new ArrayList<>(lastLogins.entrySet());
+        // Stable id order keeps row-lock acquisition consistent across concurrent flushes
+        entries.sort(Map.Entry.comparingByKey());
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, LocalDateTime> entry = entries.get(i);
+                Timestamp lastLogin = Timestamp.valueOf(entry.getValue());
+                ps.setTimestamp(1, lastLogin);
+                ps.setLong(2, entry.getKey());
+                ps.setTimestamp(3, lastLogin);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+
+        // Plain JDBC bypasses Hibernate, so cached copies of these users would keep the old last_login
+        for (Map.Entry<Long, LocalDateTime> entry : entries) {
+            entityManagerFactory.getCache().evict(User.class, entry.getKey());
+        }
+    }
+}
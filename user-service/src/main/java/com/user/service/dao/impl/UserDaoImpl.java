@@ -0,0 +1,226 @@
+package com.user.service.dao.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.user.service.dao.UserDao;
+import com.user.service.entity.User;
+import com.user.service.entity.Role;
+import com.user.service.repository.UserRepository;
+import com.user.service.repository.projection.UserIdentityView;
+import com.user.service.repository.projection.UserRoleView;
+import com.user.service.repository.projection.UserSummaryView;
+import com.user.service.repository.projection.UserVersionView;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Component
+public class UserDaoImpl implements UserDao {
+    @Autowired
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void save(User user) {
+        userRepository.save(user);
+    }
+
+    @Override
+    public void saveAndFlush(User user) {
+        userRepository.saveAndFlush(user);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByUsername(String username) {
+        // Natural-id lookup: resolved from the second-level cache when the user was loaded recently
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+
+    @Override
+    @Transactional
+    public Optional<User> findByUsernameForLogin(String username) {
+        // Read-write transaction routes to the primary; the query bypasses the natural-id cache
+        return userRepository.findByUsername(username);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return userRepository.findByEmail(email);
+    }
+
+    @Override
+    public Optional<User> findByUsernameAndPassword(String username, String password) {
+        return userRepository.findByUsernameIgnoreCaseAndPassword(username, password);
+    }
+
+    @Override
+    public Optional<User> findByEmailAndPassword(String email, String password) {
+        return userRepository.findByEmailIgnoreCaseAndPassword(email, password);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return userRepository.findById(id);
+    }
+
+    @Override
+    public List<User> findAllById(Collection<Long> ids) {
+        return userRepository.findAllById(ids);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return userRepository.existsByUsername(username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return userRepository.existsByEmail(email);
+    }
+
+    @Override
+    public List<UserIdentityView> findIdentitiesByUsernameOrEmail(String username, String email) {
+        return userRepository.findIdentitiesByUsernameOrEmail(username, email);
+    }
+
+    @Override
+    public List<UserIdentityView> findIdentitiesAfterId(Long afterId, int limit) {
+        return userRepository.findIdentitiesAfterId(afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Long> findUnverifiedIdsAfterId(Long afterId, int limit) {
+        return userRepository.findUnverifiedIdsAfterId(afterId, PageRequest.of(0, limit));
+    }
+    
+    // Admin methods for role-based access control
+    
+    @Override
+    public void delete(User user) {
+        userRepository.delete(user);
+    }
+    
+    @Override
+    public List<User> findAll() {
+        return userRepository.findAll();
+    }
+    
+    @Override
+    public Page<User> findAll(Pageable pageable) {
+        return userRepository.findAll(pageable);
+    }
+    
+    @Override
+    public List<User> findByRole(Role role) {
+        return userRepository.findByRole(role);
+    }
+    
+    @Override
+    public long count() {
+        return userRepository.count();
+    }
+    
+    @Override
+    public long countByAccountLockedFalseAndEmailVerifiedTrue() {
+        return userRepository.countByAccountLockedFalseAndEmailVerifiedTrue();
+    }
+    
+    @Override
+    public long countByAccountLockedTrue() {
+        return userRepository.countByAccountLockedTrue();
+    }
+    
+    @Override
+    public long countByRole(Role role) {
+        return userRepository.countByRole(role);
+    }
+
+    // Login bookkeeping
+
+    @Override
+    public boolean lockAfterFailedLogins(Long id, int attempts) {
+        return userRepository.lockAfterFailedLogins(id, attempts) > 0;
+    }
+
+    @Override
+    public void clearFailedLoginAttempts(Long id) {
+        userRepository.clearFailedLoginAttempts(id);
+    }
+
+    @Override
+    public boolean markEmailVerifiedByToken(String token) {
+        return userRepository.markEmailVerifiedByToken(token) > 0;
+    }
+
+    @Override
+    public boolean activateByToken(String token) {
+        return userRepository.activateByToken(token) > 0;
+    }
+
+    // Bulk import uniqueness checks
+
+    @Override
+    public List<String> findExistingUsernames(Collection<String> usernames) {
+        return userRepository.findExistingUsernames(usernames);
+    }
+
+    @Override
+    public List<String> findExistingEmails(Collection<String> emails) {
+        return userRepository.findExistingEmails(emails);
+    }
+
+    // Batch token validation
+
+    @Override
+    public List<UserRoleView> findRolesByUsernameIn(Collection<String> usernames) {
+        return userRepository.findRolesByUsernameIn(usernames);
+    }
+
+    // Batch user lookup
+
+    @Override
+    public List<UserSummaryView> findSummariesByIdIn(Collection<Long> ids) {
+        return userRepository.findSummariesByIdIn(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findCachedByIds(Collection<Long> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        List<User> users = new ArrayList<>();
+        for (Long id : ids) {
+            // Only ids already in the second-level cache; find() then assembles them without SQL
+            if (cache.contains(User.class, id)) {
+                User user = entityManager.find(User.class, id);
+                if (user != null) {
+                    users.add(user);
+                }
+            }
+        }
+        return users;
+    }
+
+    // Conditional GETs
+
+    @Override
+    public Optional<UserVersionView> findVersionById(Long id) {
+        return userRepository.findVersionById(id);
+    }
+}
@@ -35,4 +35,9 @@ public class ClientRegistrationDto {
         regexp = "^[a-z][a-z0-9._-]*$",
         message = "Scope must start with a letter and contain only lowercase letters, numbers, dots, underscores, and hyphens"
     ) String> scopes;
+
+    /**
+     * Return a still-valid client_credentials access token instead of minting a new one per request
+     */
+    private Boolean reuseAccessTokens;
 }
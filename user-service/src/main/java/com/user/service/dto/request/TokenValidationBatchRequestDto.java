@@ -0,0 +1,22 @@
+package com.user.service.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for batch token validation requests
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenValidationBatchRequestDto {
+
+    @NotEmpty(message = "At least one token is required")
+    private List<String> tokens;
+}
@@ -0,0 +1,27 @@
+package com.user.service.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for looking up many users by id in one call
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchLookupRequestDto {
+
+    @NotEmpty(message = "userIds must not be empty")
+    private List<@NotNull(message = "userIds must not contain null") Long> userIds;
+
+    // Serve users present in the second-level cache without a query; may be slightly stale across instances
+    @Builder.Default
+    private Boolean useCache = false;
+}
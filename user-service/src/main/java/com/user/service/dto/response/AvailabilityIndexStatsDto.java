@@ -0,0 +1,35 @@
+package com.user.service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for username/email availability index statistics
+ * Compares the configured false-positive rate with the rate observed on live lookups
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityIndexStatsDto {
+
+    private boolean enabled;
+    private boolean ready;
+    private long usernameKeys;
+    private long emailKeys;
+    private long staleKeys;
+    private long bitsPerFilter;
+    private int hashFunctions;
+    private long memoryBytes;
+    private double expectedFalsePositiveRate;
+    private long lookups;
+    private long definiteMisses;
+    private long falsePositives;
+    private double observedFalsePositiveRate;
+    private long lastRebuildMillis;
+    private LocalDateTime lastRebuiltAt;
+}
@@ -0,0 +1,40 @@
+package com.user.service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk user import results
+ * Reports throughput and per-row failures so callers can fix and resubmit rejected rows
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponseDto {
+
+    private int totalRows;
+    private int importedCount;
+    private int failedCount;
+    private long durationMillis;
+    private double rowsPerSecond;
+    private List<RowError> errors;
+
+    /**
+     * Failure details for a single CSV row
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long lineNumber;
+        private String username;
+        private String email;
+        private List<String> messages;
+    }
+}
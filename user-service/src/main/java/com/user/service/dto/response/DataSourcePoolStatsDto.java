@@ -0,0 +1,39 @@
+package com.user.service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for connection pool state and connection acquisition timings
+ * Pending threads and acquire percentiles show pool starvation; compare with the auth.password.verify timer
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataSourcePoolStatsDto {
+
+    private String poolName;
+    private int maximumPoolSize;
+    private int minimumIdle;
+    private long connectionTimeoutMillis;
+    private long leakDetectionThresholdMillis;
+
+    private int activeConnections;
+    private int idleConnections;
+    private int totalConnections;
+    private int pendingThreads;
+
+    private long acquireCount;
+    private double acquireMeanMillis;
+    private double acquireMaxMillis;
+    private Double acquireP50Millis;
+    private Double acquireP95Millis;
+    private Double acquireP99Millis;
+    private double usageMeanMillis;
+    private double usageMaxMillis;
+    private double creationMeanMillis;
+    private long connectionTimeouts;
+}
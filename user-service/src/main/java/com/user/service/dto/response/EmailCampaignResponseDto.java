@@ -0,0 +1,35 @@
+package com.user.service.dto.response;
+
+import com.user.service.entity.EmailCampaign.Status;
+import com.user.service.entity.EmailOutbox.EmailType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for bulk email campaign progress
+ * Queued counts come from the campaign checkpoint, delivery counts from its outbox entries
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailCampaignResponseDto {
+
+    private Long id;
+    private EmailType emailType;
+    private Status status;
+    private Long lastUserId;
+    private long usersQueued;
+    private long pending;
+    private long sent;
+    private long failed;
+    private String startedBy;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
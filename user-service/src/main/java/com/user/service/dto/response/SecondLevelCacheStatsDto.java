@@ -0,0 +1,46 @@
+package com.user.service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for Hibernate second-level cache statistics
+ * Entity and natural-id regions are reported separately; hit ratios are 0 until a region has been read
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SecondLevelCacheStatsDto {
+
+    private boolean enabled;
+    private boolean statisticsEnabled;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRatio;
+    private long naturalIdHitCount;
+    private long naturalIdMissCount;
+    private double naturalIdHitRatio;
+    private List<RegionStats> regions;
+
+    /**
+     * Counters for a single cache region
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RegionStats {
+        private String region;
+        private long hitCount;
+        private long missCount;
+        private long putCount;
+        private double hitRatio;
+        private long elementCountInMemory;
+    }
+}
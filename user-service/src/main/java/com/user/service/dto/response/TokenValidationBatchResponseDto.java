@@ -0,0 +1,41 @@
+package com.user.service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for batch token validation results
+ * Results are returned in request order, one per submitted token
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenValidationBatchResponseDto {
+
+    private int totalCount;
+    private int validCount;
+    private long durationMillis;
+    private List<TokenResult> results;
+
+    /**
+     * Validation outcome for a single token
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TokenResult {
+        private int index;
+        private boolean valid;
+        private String subject;
+        private List<String> roles;
+        private Instant expiresAt;
+        private String error;
+    }
+}
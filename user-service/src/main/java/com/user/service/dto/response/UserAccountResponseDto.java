@@ -0,0 +1,44 @@
+package com.user.service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the account page: profile, addresses and default address in one response
+ * Parts the client did not ask for are left out of the JSON
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserAccountResponseDto {
+
+    private UserResponseDto profile;
+    private List<AddressResponseDto> addresses;
+    private AddressResponseDto defaultAddress;
+
+    /**
+     * Selectable parts, named as in the fields request parameter
+     */
+    public enum Part {
+        PROFILE("profile"),
+        ADDRESSES("addresses"),
+        DEFAULT_ADDRESS("defaultAddress");
+
+        private final String fieldName;
+
+        Part(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.user.service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for batch user lookup results
+ * Users are returned in request order (duplicates collapsed); ids with no user are listed in missingIds
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchLookupResponseDto {
+
+    private int requestedCount;
+    private int foundCount;
+    private int cacheHits;
+    private List<UserSummary> users;
+    private List<Long> missingIds;
+
+    /**
+     * Identity and display name of a single user
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserSummary {
+        private Long id;
+        private String username;
+        private String email;
+        private String firstName;
+        private String lastName;
+    }
+}
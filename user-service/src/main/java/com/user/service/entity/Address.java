@@ -9,6 +9,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -19,6 +21,7 @@ import java.time.LocalDateTime;
  * Supports multiple addresses per user with default address designation
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "addresses")
 @Getter
 @Setter
 @Table(name = "user_addresses", indexes = {
@@ -0,0 +1,72 @@
+package com.user.service.entity;
+
+import com.user.service.entity.EmailOutbox.EmailType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Admin-triggered bulk email run over a set of users
+ * last_user_id is the keyset checkpoint; a restarted job continues after it
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "email_campaigns", indexes = {
+    @Index(name = "idx_email_campaigns_status", columnList = "status")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailCampaign extends BaseVO {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "email_type", nullable = false, length = 50)
+    private EmailType emailType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.RUNNING;
+
+    @Column(name = "last_user_id", nullable = false)
+    @Builder.Default
+    private Long lastUserId = 0L;
+
+    @Column(name = "users_queued", nullable = false)
+    @Builder.Default
+    private Long usersQueued = 0L;
+
+    @Column(name = "started_by", length = 50)
+    private String startedBy;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * Lifecycle of a campaign
+     */
+    public enum Status {
+        RUNNING,
+        PAUSED,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+}
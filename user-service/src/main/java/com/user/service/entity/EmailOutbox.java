@@ -0,0 +1,90 @@
+package com.user.service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transactional outbox entry for an email to be sent
+ * Written in the same transaction as the business change and delivered later by the outbox dispatcher
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "email_outbox", indexes = {
+    @Index(name = "idx_email_outbox_ready", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_email_outbox_claim", columnList = "claim_token"),
+    @Index(name = "idx_email_outbox_campaign", columnList = "campaign_id, status")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutbox extends BaseVO {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "email_type", nullable = false, length = 50)
+    private EmailType emailType;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "token")
+    private String token;
+
+    @Column(name = "campaign_id")
+    private Long campaignId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * Kinds of email that can be queued
+     */
+    public enum EmailType {
+        EMAIL_VERIFICATION,
+        WELCOME,
+        ACCOUNT_ACTIVATION,
+        PASSWORD_RESET
+    }
+
+    /**
+     * Delivery state of an outbox entry
+     */
+    public enum Status {
+        PENDING,
+        SENDING,
+        SENT,
+        FAILED
+    }
+}
@@ -0,0 +1,62 @@
+package com.user.service.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "sessions")
+@Data
+@NoArgsConstructor
+public class Session implements Persistable<String> {
+    private String username;
+    private String token;
+    @Id
+    private String sessionId;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime lastAccessedAt;
+
+    // Session ids are assigned UUIDs; without this, save() would merge and SELECT before every INSERT
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private boolean newSession = true;
+
+    @Override
+    @JsonIgnore
+    public String getId() {
+        return sessionId;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newSession;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newSession = false;
+    }
+}
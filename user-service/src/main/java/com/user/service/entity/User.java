@@ -10,7 +10,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -18,14 +22,18 @@ import java.time.LocalDateTime;
 /**
  * User entity for ecommerce platform
  * Supports customers, merchants, and admin users
+ * Cached in the second-level cache; username is the natural id, so lookups by username can skip SQL
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-username")
 @Getter
 @Setter
 @Table(name = "users", indexes = {
     @Index(name = "idx_user_email", columnList = "email"),
     @Index(name = "idx_user_username", columnList = "username"),
-    @Index(name = "idx_user_role", columnList = "role")
+    @Index(name = "idx_user_role", columnList = "role"),
+    @Index(name = "idx_user_email_verified", columnList = "email_verified, id")
 })
 @NoArgsConstructor
 @AllArgsConstructor
@@ -34,6 +42,7 @@ public class User extends BaseVO {
     
     @NotBlank(message = "Username is required")
     @Size(min = 3, max = 50, message = "Username must be between 3 and 50 characters")
+    @NaturalId
     @Column(unique = true, nullable = false, length = 50)
     private String username;
     
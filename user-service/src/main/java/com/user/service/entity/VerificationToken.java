@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 @Table(name = "verification_tokens", indexes = {
     @Index(name = "idx_verification_token", columnList = "token"),
     @Index(name = "idx_verification_user_id", columnList = "user_id"),
-    @Index(name = "idx_verification_expiry", columnList = "expiry_date")
+    @Index(name = "idx_verification_expiry", columnList = "expiry_date"),
+    @Index(name = "idx_verification_used", columnList = "used, created_at")
 })
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,7 +31,7 @@ public class VerificationToken extends BaseVO {
     @Column(nullable = false, unique = true)
     private String token;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
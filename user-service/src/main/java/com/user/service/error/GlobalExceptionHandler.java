@@ -4,6 +4,7 @@ import com.user.service.dto.response.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -181,6 +182,16 @@ public class GlobalExceptionHandler {
     }
 
     // Business Logic Exceptions
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<Object>> handleRateLimitExceededException(
+            RateLimitExceededException e, WebRequest request) {
+        logger.warn("Rate limit exceeded: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ErrorCodes.RATE_LIMIT_EXCEEDED, e.getMessage(), getPath(request)));
+    }
     
     @ExceptionHandler(BusinessLogicException.class)
     public ResponseEntity<ApiResponse<Object>> handleBusinessLogicException(
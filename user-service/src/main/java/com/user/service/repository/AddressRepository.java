@@ -0,0 +1,91 @@
+package com.user.service.repository;
+
+import com.user.service.entity.Address;
+import com.user.service.repository.projection.AddressVersionView;
+import com.user.service.repository.projection.UserAddressView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for Address entity operations
+ */
+@Repository
+public interface AddressRepository extends JpaRepository<Address, Long> {
+    
+    /**
+     * Find all addresses for a specific user
+     */
+    List<Address> findByUserIdOrderByIsDefaultDescCreatedAtDesc(Long userId);
+    
+    /**
+     * Load a user and their addresses (default first, then newest) in one statement
+     */
+    @Query("SELECT u AS user, a AS address FROM User u LEFT JOIN Address a ON a.user = u "
+            + "WHERE u.id = :userId ORDER BY a.isDefault DESC, a.createdAt DESC")
+    List<UserAddressView> findUserWithAddresses(@Param("userId") Long userId);
+    
+    /**
+     * Versions of all addresses of a user, for ETags; no address entity is loaded
+     */
+    @Query("SELECT a.id AS id, a.updatedAt AS updatedAt FROM Address a WHERE a.user.id = :userId ORDER BY a.id")
+    List<AddressVersionView> findVersionsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT a.id AS id, a.updatedAt AS updatedAt FROM Address a WHERE a.user.id = :userId AND a.id = :addressId")
+    Optional<AddressVersionView> findVersionByUserIdAndId(@Param("userId") Long userId, @Param("addressId") Long addressId);
+
+    @Query("SELECT a.id AS id, a.updatedAt AS updatedAt FROM Address a WHERE a.user.id = :userId AND a.isDefault = true")
+    Optional<AddressVersionView> findDefaultVersionByUserId(@Param("userId") Long userId);
+    
+    /**
+     * Find default address for a user
+     */
+    Optional<Address> findByUserIdAndIsDefaultTrue(Long userId);
+    
+    /**
+     * Find addresses by user ID and label
+     */
+    List<Address> findByUserIdAndLabelIgnoreCase(Long userId, String label);
+    
+    /**
+     * Count addresses for a user
+     */
+    long countByUserId(Long userId);
+    
+    /**
+     * Check if user has any addresses
+     */
+    boolean existsByUserId(Long userId);
+    
+    /**
+     * Find address by user ID and address ID (for security validation)
+     */
+    Optional<Address> findByUserIdAndId(Long userId, Long addressId);
+    
+    /**
+     * Reset all default flags for a user (before setting a new default)
+     */
+    @Modifying
+    @Query("UPDATE Address a SET a.isDefault = false, a.updatedAt = CURRENT_TIMESTAMP WHERE a.user.id = :userId")
+    void resetDefaultFlagsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Clear the default flag on every other address of a user
+     * Flushes pending changes first and clears the persistence context so no managed address goes stale
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Address a SET a.isDefault = false, a.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE a.user.id = :userId AND a.id <> :keepAddressId AND a.isDefault = true")
+    int resetOtherDefaultFlags(@Param("userId") Long userId, @Param("keepAddressId") Long keepAddressId);
+    
+    /**
+     * Find addresses by user ID with pagination
+     */
+    @Query("SELECT a FROM Address a WHERE a.user.id = :userId ORDER BY a.isDefault DESC, a.createdAt DESC")
+    List<Address> findByUserIdWithPagination(@Param("userId") Long userId);
+}
@@ -0,0 +1,50 @@
+package com.user.service.repository;
+
+import com.user.service.entity.EmailCampaign;
+import com.user.service.entity.EmailCampaign.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for bulk email campaigns
+ * Checkpoint and status changes are single conditional updates so a pause is never overwritten by the runner
+ */
+@Repository
+public interface EmailCampaignRepository extends JpaRepository<EmailCampaign, Long> {
+
+    List<EmailCampaign> findByStatus(Status status);
+
+    List<EmailCampaign> findAllByOrderByIdDesc();
+
+    boolean existsByStatus(Status status);
+
+    /**
+     * Move the keyset checkpoint past a processed page, only if the campaign is still running from the checkpoint
+     * the page was read after
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailCampaign c SET c.lastUserId = :lastUserId, c.usersQueued = c.usersQueued + :queued, "
+            + "c.updatedAt = :now WHERE c.id = :id AND c.status = :running AND c.lastUserId = :previousLastUserId")
+    int advanceCheckpoint(@Param("id") Long id, @Param("previousLastUserId") Long previousLastUserId,
+                          @Param("lastUserId") Long lastUserId, @Param("queued") long queued,
+                          @Param("running") Status running, @Param("now") LocalDateTime now);
+
+    /**
+     * Change status only if the campaign is still in the expected state
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailCampaign c SET c.status = :status, c.updatedAt = :now, c.completedAt = :completedAt, "
+            + "c.lastError = :lastError WHERE c.id = :id AND c.status = :expected")
+    int transition(@Param("id") Long id, @Param("expected") Status expected, @Param("status") Status status,
+                   @Param("completedAt") LocalDateTime completedAt, @Param("lastError") String lastError,
+                   @Param("now") LocalDateTime now);
+}
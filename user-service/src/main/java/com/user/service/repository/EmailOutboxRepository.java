@@ -0,0 +1,70 @@
+package com.user.service.repository;
+
+import com.user.service.entity.EmailOutbox;
+import com.user.service.entity.EmailOutbox.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the email outbox
+ * Rows are claimed with conditional updates so several dispatchers can poll the same table safely
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * Find IDs of pending entries that are due, oldest first
+     */
+    @Query("SELECT e.id FROM EmailOutbox e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<Long> findDueIds(@Param("status") Status status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Claim pending entries for one dispatcher run; entries claimed by someone else are skipped
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :claimed, e.claimToken = :claimToken, e.claimedAt = :now "
+            + "WHERE e.id IN :ids AND e.status = :pending")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now,
+              @Param("pending") Status pending, @Param("claimed") Status claimed);
+
+    List<EmailOutbox> findByClaimToken(String claimToken);
+
+    /**
+     * Return entries whose dispatcher died mid-send to the pending queue
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :pending, e.claimToken = NULL "
+            + "WHERE e.status = :claimed AND e.claimedAt < :cutoff")
+    int releaseExpiredClaims(@Param("cutoff") LocalDateTime cutoff,
+                             @Param("pending") Status pending, @Param("claimed") Status claimed);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :sent, e.sentAt = :now, e.attempts = e.attempts + 1, e.claimToken = NULL "
+            + "WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now, @Param("sent") Status sent);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, "
+            + "e.lastError = :lastError, e.claimToken = NULL WHERE e.id = :id")
+    int markAttemptFailed(@Param("id") Long id, @Param("status") Status status, @Param("attempts") int attempts,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    long countByStatus(Status status);
+
+    long countByCampaignIdAndStatus(Long campaignId, Status status);
+
+    long countByCampaignIdAndStatusIn(Long campaignId, Collection<Status> statuses);
+}
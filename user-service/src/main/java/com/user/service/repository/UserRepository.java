@@ -0,0 +1,112 @@
+package com.user.service.repository;
+
+import com.user.service.entity.User;
+import com.user.service.entity.Role;
+import com.user.service.repository.projection.UserIdentityView;
+import com.user.service.repository.projection.UserRoleView;
+import com.user.service.repository.projection.UserSummaryView;
+import com.user.service.repository.projection.UserVersionView;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+// Finders run read-only so they can be served by the replica; modifying queries override this
+@Transactional(readOnly = true)
+public interface UserRepository extends JpaRepository<User, Long> {
+    Optional<User> findByEmail(String email);
+
+    Optional<User> findByUsername(String username);
+
+    Optional<User> findByUsernameIgnoreCaseAndPassword(String username, String password);
+
+    Optional<User> findByEmailIgnoreCaseAndPassword(String email, String password);
+
+    Optional<User> findById(Long id);
+
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    // Single round trip for both unique keys; returns at most two rows
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email FROM User u WHERE u.username = :username OR u.email = :email")
+    List<UserIdentityView> findIdentitiesByUsernameOrEmail(@Param("username") String username, @Param("email") String email);
+
+    // Keyset page over identity columns, used to stream the table without offset scans
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserIdentityView> findIdentitiesAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT u.id FROM User u WHERE u.emailVerified = false AND u.id > :afterId ORDER BY u.id")
+    List<Long> findUnverifiedIdsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // Admin methods for role-based access control
+    
+    List<User> findByRole(Role role);
+    
+    @Query("SELECT COUNT(u) FROM User u WHERE u.accountLocked = false AND u.emailVerified = true")
+    long countByAccountLockedFalseAndEmailVerifiedTrue();
+    
+    @Query("SELECT COUNT(u) FROM User u WHERE u.accountLocked = true")
+    long countByAccountLockedTrue();
+    
+    @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role")
+    long countByRole(@Param("role") Role role);
+
+    // Targeted login bookkeeping updates; these skip the full-entity dirty check and @UpdateTimestamp
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.accountLocked = true, u.failedLoginAttempts = :attempts, u.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE u.id = :id AND u.accountLocked = false")
+    int lockAfterFailedLogins(@Param("id") Long id, @Param("attempts") int attempts);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.failedLoginAttempts = 0 WHERE u.id = :id AND u.failedLoginAttempts <> 0")
+    int clearFailedLoginAttempts(@Param("id") Long id);
+
+    // Token consumption: flip flags for the token's owner without loading either entity
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.emailVerified = true, u.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE u.id = (SELECT vt.user.id FROM VerificationToken vt WHERE vt.token = :token)")
+    int markEmailVerifiedByToken(@Param("token") String token);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.emailVerified = true, u.accountLocked = false, u.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE u.id = (SELECT vt.user.id FROM VerificationToken vt WHERE vt.token = :token)")
+    int activateByToken(@Param("token") String token);
+
+    // Bulk import uniqueness checks
+
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Batch token validation
+
+    @Query("SELECT u.username AS username, u.role AS role, u.accountLocked AS accountLocked FROM User u WHERE u.username IN :usernames")
+    List<UserRoleView> findRolesByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    // Batch user lookup
+
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email, u.firstName AS firstName, u.lastName AS lastName "
+            + "FROM User u WHERE u.id IN :ids")
+    List<UserSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Conditional GETs
+
+    @Query("SELECT u.updatedAt AS updatedAt, u.lastLogin AS lastLogin FROM User u WHERE u.id = :id")
+    Optional<UserVersionView> findVersionById(@Param("id") Long id);
+}
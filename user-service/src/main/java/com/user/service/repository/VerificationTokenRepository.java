@@ -2,21 +2,26 @@ package com.user.service.repository;
 
 import com.user.service.entity.VerificationToken;
 import com.user.service.entity.VerificationToken.TokenType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for verification tokens
  * Handles database operations for email verification and account activation
+ * Finders run read-only (replica-routable); modifying queries declare their own read-write transactions
  */
 @Repository
+@Transactional(readOnly = true)
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken, Long> {
 
     /**
@@ -52,13 +57,59 @@ public interface VerificationTokenRepository extends JpaRepository<VerificationT
     /**
      * Delete expired tokens
      */
+    @Transactional
     @Modifying
     @Query("DELETE FROM VerificationToken vt WHERE vt.expiryDate < :dateTime")
     void deleteExpiredTokens(@Param("dateTime") LocalDateTime dateTime);
 
+    /**
+     * Mark every unused token of the given type as used for a set of users
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE VerificationToken vt SET vt.used = true "
+            + "WHERE vt.user.id IN :userIds AND vt.tokenType = :tokenType AND vt.used = false")
+    int invalidateUnusedTokens(@Param("userIds") Collection<Long> userIds, @Param("tokenType") TokenType tokenType);
+
+    /**
+     * Atomically mark a token as used if it is still unused and unexpired
+     * @return 1 if this call consumed the token, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE VerificationToken vt SET vt.used = true "
+            + "WHERE vt.token = :token AND vt.used = false AND vt.expiryDate > :now")
+    int consumeToken(@Param("token") String token, @Param("now") LocalDateTime now);
+
+    /**
+     * Mark every unused token of a user as used
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE VerificationToken vt SET vt.used = true WHERE vt.user.id = :userId AND vt.used = false")
+    int invalidateUserTokens(@Param("userId") Long userId);
+
+    /**
+     * Page of ids of tokens that expired before the cutoff, oldest first
+     */
+    @Query("SELECT vt.id FROM VerificationToken vt WHERE vt.expiryDate < :cutoff ORDER BY vt.expiryDate")
+    List<Long> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Page of ids of used tokens created before the cutoff
+     */
+    @Query("SELECT vt.id FROM VerificationToken vt WHERE vt.used = true AND vt.createdAt < :cutoff ORDER BY vt.createdAt")
+    List<Long> findUsedIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM VerificationToken vt WHERE vt.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * Mark token as used
      */
+    @Transactional
     @Modifying
     @Query("UPDATE VerificationToken vt SET vt.used = true WHERE vt.id = :tokenId")
     void markTokenAsUsed(@Param("tokenId") Long tokenId);
@@ -0,0 +1,13 @@
+package com.user.service.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of an address id and its last update, enough to derive an ETag without loading the address
+ */
+public interface AddressVersionView {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+}
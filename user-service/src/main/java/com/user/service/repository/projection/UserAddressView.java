@@ -0,0 +1,15 @@
+package com.user.service.repository.projection;
+
+import com.user.service.entity.Address;
+import com.user.service.entity.User;
+
+/**
+ * One row of a user joined with one of their addresses
+ * The address is null when the user has none
+ */
+public interface UserAddressView {
+
+    User getUser();
+
+    Address getAddress();
+}
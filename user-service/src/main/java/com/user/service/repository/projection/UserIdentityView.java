@@ -0,0 +1,14 @@
+package com.user.service.repository.projection;
+
+/**
+ * Projection of the unique identity columns of a user
+ * Used for existence checks that must not load the full entity
+ */
+public interface UserIdentityView {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+}
@@ -0,0 +1,16 @@
+package com.user.service.repository.projection;
+
+import com.user.service.entity.Role;
+
+/**
+ * Projection of the authorization-relevant columns of a user
+ * Used by batch token validation to resolve roles for many subjects in one query
+ */
+public interface UserRoleView {
+
+    String getUsername();
+
+    Role getRole();
+
+    Boolean getAccountLocked();
+}
@@ -0,0 +1,17 @@
+package com.user.service.repository.projection;
+
+/**
+ * Projection of the display columns other services need to enrich their own records
+ */
+public interface UserSummaryView {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    String getFirstName();
+
+    String getLastName();
+}
@@ -0,0 +1,14 @@
+package com.user.service.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the columns that change whenever a user's profile representation changes
+ * last_login is written apart from updated_at, so both are needed
+ */
+public interface UserVersionView {
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getLastLogin();
+}
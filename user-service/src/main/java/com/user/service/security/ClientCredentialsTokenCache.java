@@ -0,0 +1,142 @@
+package com.user.service.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AccessTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientCredentialsAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory index of issued client_credentials access tokens, keyed by registered client and scope set
+ * Clients that opt in through {@link #REUSE_ACCESS_TOKEN_SETTING} get their still-valid token back
+ * instead of a freshly signed JWT and another authorization row
+ */
+@Component
+@Slf4j
+public class ClientCredentialsTokenCache {
+
+    /**
+     * Client setting that opts a registered client into access token reuse
+     */
+    public static final String REUSE_ACCESS_TOKEN_SETTING = "settings.client.reuse-access-token";
+
+    @Value("${app.security.token-reuse.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.security.token-reuse.min-remaining-seconds:60}")
+    private long minRemainingSeconds;
+
+    @Value("${app.security.token-reuse.max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<String, OAuth2AccessToken> tokens = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Wraps the client_credentials provider so opted-in clients are served from the index first
+     */
+    public AuthenticationProvider reusing(AuthenticationProvider delegate) {
+        return new AuthenticationProvider() {
+            @Override
+            public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+                return ClientCredentialsTokenCache.this.authenticate(
+                        (OAuth2ClientCredentialsAuthenticationToken) authentication, delegate);
+            }
+
+            @Override
+            public boolean supports(Class<?> authentication) {
+                return delegate.supports(authentication);
+            }
+        };
+    }
+
+    /**
+     * Drops every indexed token of a registered client; called when the client is updated or deleted
+     */
+    public void invalidateClient(String registeredClientId) {
+        if (registeredClientId != null) {
+            String prefix = registeredClientId + "|";
+            tokens.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    /**
+     * Drops the indexed token of an authorization that was revoked or removed
+     */
+    public void invalidate(OAuth2Authorization authorization) {
+        OAuth2Authorization.Token<OAuth2AccessToken> accessToken = authorization.getAccessToken();
+        if (accessToken != null && !tokens.isEmpty()) {
+            String tokenValue = accessToken.getToken().getTokenValue();
+            tokens.values().removeIf(token -> token.getTokenValue().equals(tokenValue));
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int getSize() {
+        return tokens.size();
+    }
+
+    // Private helper methods
+
+    private Authentication authenticate(OAuth2ClientCredentialsAuthenticationToken request,
+                                        AuthenticationProvider delegate) {
+        if (!(request.getPrincipal() instanceof OAuth2ClientAuthenticationToken clientPrincipal)
+                || !clientPrincipal.isAuthenticated() || !reuseEnabled(clientPrincipal.getRegisteredClient())) {
+            return delegate.authenticate(request);
+        }
+
+        RegisteredClient registeredClient = clientPrincipal.getRegisteredClient();
+        String key = registeredClient.getId() + "|" + String.join(" ", new TreeSet<>(request.getScopes()));
+        Instant now = Instant.now();
+        OAuth2AccessToken cached = tokens.get(key);
+        if (cached != null && hasEnoughLifetime(cached, now)) {
+            hits.increment();
+            return new OAuth2AccessTokenAuthenticationToken(registeredClient, clientPrincipal, cached);
+        }
+
+        misses.increment();
+        Authentication result = delegate.authenticate(request);
+        if (result instanceof OAuth2AccessTokenAuthenticationToken issued && hasEnoughLifetime(issued.getAccessToken(), now)) {
+            if (tokens.size() >= maxEntries) {
+                tokens.values().removeIf(token -> !hasEnoughLifetime(token, now));
+                if (tokens.size() >= maxEntries) {
+                    log.warn("Client token reuse index reached {} entries; clearing it", maxEntries);
+                    tokens.clear();
+                }
+            }
+            tokens.put(key, issued.getAccessToken());
+        }
+        return result;
+    }
+
+    private boolean reuseEnabled(RegisteredClient registeredClient) {
+        return enabled && Boolean.TRUE.equals(registeredClient.getClientSettings().getSetting(REUSE_ACCESS_TOKEN_SETTING));
+    }
+
+    private boolean hasEnoughLifetime(OAuth2AccessToken token, Instant now) {
+        Instant expiresAt = token.getExpiresAt();
+        return expiresAt != null && Duration.between(now, expiresAt).getSeconds() >= minRemainingSeconds;
+    }
+}
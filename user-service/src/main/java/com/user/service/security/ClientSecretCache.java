@@ -0,0 +1,147 @@
+package com.user.service.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers client secrets that recently passed BCrypt verification, keyed by the client's stored secret hash
+ * Only successful matches are cached, as an HMAC under a per-process key, so wrong secrets always pay full BCrypt cost
+ */
+@Component
+@Slf4j
+public class ClientSecretCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    @Autowired
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Value("${app.security.client-secret-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.security.client-secret-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${app.security.client-secret-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final Map<String, Verified> verified = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ClientSecretCache() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        this.key = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Checks a presented secret against the stored hash, skipping BCrypt if the same pair matched within the TTL
+     */
+    public boolean matches(CharSequence rawSecret, String encodedSecret) {
+        if (!enabled || rawSecret == null || encodedSecret == null) {
+            return passwordEncoder.matches(rawSecret, encodedSecret);
+        }
+        byte[] fingerprint = fingerprint(rawSecret, encodedSecret);
+        long now = System.nanoTime();
+        Verified entry = verified.get(encodedSecret);
+        if (entry != null && now - entry.expiresAt() < 0 && MessageDigest.isEqual(entry.fingerprint(), fingerprint)) {
+            hits.increment();
+            return true;
+        }
+
+        misses.increment();
+        boolean matches = passwordEncoder.matches(rawSecret, encodedSecret);
+        if (matches) {
+            if (verified.size() >= maxEntries) {
+                verified.values().removeIf(stale -> now - stale.expiresAt() >= 0);
+                if (verified.size() >= maxEntries) {
+                    verified.clear();
+                }
+            }
+            verified.put(encodedSecret, new Verified(fingerprint, now + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        return matches;
+    }
+
+    /**
+     * Drops the cached match for a client's stored secret hash; called when the client is updated or deleted
+     */
+    public void invalidate(String encodedSecret) {
+        if (encodedSecret != null) {
+            verified.remove(encodedSecret);
+        }
+    }
+
+    /**
+     * PasswordEncoder view for the authorization server's client authentication
+     */
+    public PasswordEncoder asPasswordEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return passwordEncoder.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return ClientSecretCache.this.matches(rawPassword, encodedPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return passwordEncoder.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int getSize() {
+        return verified.size();
+    }
+
+    private byte[] fingerprint(CharSequence rawSecret, String encodedSecret) {
+        Mac mac = macs.get();
+        mac.update(encodedSecret.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        return mac.doFinal(rawSecret.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private record Verified(byte[] fingerprint, long expiresAt) {
+    }
+}
@@ -1,12 +1,7 @@
 package com.user.service.security;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
-import java.util.UUID;
-
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -20,38 +15,81 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.authorization.authentication.ClientSecretAuthenticationProvider;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientCredentialsAuthenticationProvider;
 import org.springframework.security.oauth2.server.authorization.config.annotation.web.configuration.OAuth2AuthorizationServerConfiguration;
 import org.springframework.security.oauth2.server.authorization.config.annotation.web.configurers.OAuth2AuthorizationServerConfigurer;
 import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+import org.springframework.security.oauth2.server.authorization.token.JwtEncodingContext;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenCustomizer;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.MediaTypeRequestMatcher;
 import org.springframework.http.MediaType;
 
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.user.service.dao.UserDao;
 import com.user.service.security.jwt.JwtAuthenticationFilter;
+import com.user.service.security.keys.JwkKeyring;
+import com.user.service.security.keys.KeyringProperties;
+import com.user.service.security.ratelimit.RateLimitFilter;
+import com.user.service.security.ratelimit.RateLimitProperties;
+import com.user.service.security.ratelimit.RateLimitRegistry;
 import com.user.service.security.CustomPermissionEvaluator;
+import com.user.service.util.JwtTokenUtil;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
+@EnableConfigurationProperties({RateLimitProperties.class, KeyringProperties.class})
 public class SpringSecurityConfig {
 	@Autowired
 	private UserDao userDao;
 
+	@Autowired
+	private RateLimitRegistry rateLimitRegistry;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ClientSecretCache clientSecretCache;
+
+	@Autowired
+	private ClientCredentialsTokenCache clientCredentialsTokenCache;
+
+	@Autowired
+	private JwkKeyring jwkKeyring;
+
+	@Autowired
+	private JwtTokenUtil jwtTokenUtil;
+
 	@Bean
 	@Order(1)
 	public SecurityFilterChain authorizationServerSecurityFilterChain(HttpSecurity http)
 			throws Exception {
 		OAuth2AuthorizationServerConfiguration.applyDefaultSecurity(http);
 		http.getConfigurer(OAuth2AuthorizationServerConfigurer.class)
+			.clientAuthentication(clientAuthentication -> clientAuthentication
+				.authenticationProviders(providers -> providers.forEach(provider -> {
+					// Repeat client_credentials calls with an already verified secret skip BCrypt
+					if (provider instanceof ClientSecretAuthenticationProvider secretProvider) {
+						secretProvider.setPasswordEncoder(clientSecretCache.asPasswordEncoder());
+					}
+				})))
+			.tokenEndpoint(tokenEndpoint -> tokenEndpoint
+				.authenticationProviders(providers -> providers.replaceAll(provider ->
+					// Opted-in clients get their still-valid access token back instead of a new one
+					provider instanceof OAuth2ClientCredentialsAuthenticationProvider
+						? clientCredentialsTokenCache.reusing(provider)
+						: provider)))
 			.oidc(Customizer.withDefaults());	// Enable OpenID Connect 1.0
 		http
 			.exceptionHandling((exceptions) -> exceptions
@@ -71,7 +109,7 @@ public class SpringSecurityConfig {
 	public SecurityFilterChain defaultSecurityFilterChain(HttpSecurity http)
 			throws Exception {
 		http
-			.securityMatcher("/auth/**", "/clients/**", "/h2-console/**", "/users/**", "/admin/**", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**")
+			.securityMatcher("/auth/**", "/clients/**", "/h2-console/**", "/users/**", "/admin/**", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**", "/actuator/**")
 			.authorizeHttpRequests((authorize) -> authorize
 				.requestMatchers("/auth/login").permitAll()     // Allow login endpoint
 				.requestMatchers("/auth/signUp").permitAll()    // Allow signup endpoint
@@ -85,6 +123,8 @@ public class SpringSecurityConfig {
 				.requestMatchers("/h2-console/**").permitAll()  // Allow H2 console for local dev
 				.requestMatchers("/error/**").permitAll()       // Allow error endpoints
 				.requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**").permitAll() // Allow Swagger UI
+				.requestMatchers("/actuator/health").permitAll() // Allow liveness/readiness probes
+				.requestMatchers("/actuator/**").hasRole("ADMIN") // Pool and metrics endpoints are admin only
 				.anyRequest().authenticated()  // All other requests require authentication
 			)
 			.csrf(csrf -> csrf
@@ -98,6 +138,7 @@ public class SpringSecurityConfig {
 			.sessionManagement(session -> session
 	        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
 	    	)  // Make it stateless for JWT
+			.addFilterBefore(new RateLimitFilter(rateLimitRegistry, objectMapper), UsernamePasswordAuthenticationFilter.class)
 			.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
 
 		return http.build();
@@ -122,28 +163,21 @@ public class SpringSecurityConfig {
 
 	@Bean
 	public JWKSource<SecurityContext> jwkSource() {
-		KeyPair keyPair = generateRsaKey();
-		RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
-		RSAPrivateKey privateKey = (RSAPrivateKey) keyPair.getPrivate();
-		RSAKey rsaKey = new RSAKey.Builder(publicKey)
-				.privateKey(privateKey)
-				.keyID(UUID.randomUUID().toString())
-				.build();
-		JWKSet jwkSet = new JWKSet(rsaKey);
-		return new ImmutableJWKSet<>(jwkSet);
+		// Every published key, looked up by kid; keys persist across restarts and are shared between instances
+		return jwkKeyring.verificationJwkSource();
 	}
 
-	private static KeyPair generateRsaKey() {
-		KeyPair keyPair;
-		try {
-			KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-			keyPairGenerator.initialize(2048);
-			keyPair = keyPairGenerator.generateKeyPair();
-		}
-		catch (Exception ex) {
-			throw new IllegalStateException(ex);
-		}
-		return keyPair;
+	@Bean
+	public JwtEncoder jwtEncoder() {
+		// Only the current key signs, so the encoder never has to choose between rotated keys
+		return new NimbusJwtEncoder(jwkKeyring.signingJwkSource());
+	}
+
+	@Bean
+	public OAuth2TokenCustomizer<JwtEncodingContext> signingAlgorithmCustomizer() {
+		// The token generator defaults to RS256; follow whichever key type the keyring currently signs with
+		return context -> context.getJwsHeader()
+				.algorithm(SignatureAlgorithm.from(jwkKeyring.getSigningAlgorithm().getName()));
 	}
 
 	@Bean
@@ -158,7 +192,7 @@ public class SpringSecurityConfig {
 
 	// Note: JpaRegisteredClientRepository is automatically configured as a @Component	@Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(userDetailsService());
+        return new JwtAuthenticationFilter(userDetailsService(), jwtTokenUtil);
     }
     
     @Bean
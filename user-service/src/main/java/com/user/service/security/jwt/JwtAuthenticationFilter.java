@@ -13,6 +13,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.user.service.error.InvalidCredentialsException;
 import com.user.service.util.JwtTokenUtil;
 
+import io.jsonwebtoken.JwtException;
+
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,8 +25,10 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private UserDetailsService userDetailsService;
-    public JwtAuthenticationFilter(UserDetailsService userDetailsService) {
+    private JwtTokenUtil jwtTokenUtil;
+    public JwtAuthenticationFilter(UserDetailsService userDetailsService, JwtTokenUtil jwtTokenUtil) {
         this.userDetailsService = userDetailsService;
+        this.jwtTokenUtil = jwtTokenUtil;
     }
 
     @SuppressWarnings("null")
@@ -44,13 +48,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         
         jwt = authHeader.substring(7);  // Remove "Bearer " prefix
-        username = JwtTokenUtil.getSubjectFromToken(jwt);
+        try {
+            username = jwtTokenUtil.getSubjectFromToken(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            // Not a session token this service can verify; the request continues unauthenticated
+            filterChain.doFilter(request, response);
+            return;
+        }
         
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
             
             try {
-                if (JwtTokenUtil.validateToken(jwt)) {
+                if (jwtTokenUtil.validateToken(jwt)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
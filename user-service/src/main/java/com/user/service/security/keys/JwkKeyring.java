@@ -0,0 +1,385 @@
+package com.user.service.security.keys;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.AsymmetricJWK;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetSequenceKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.Key;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * File-backed keyring of asymmetric keys for the authorization server and HMAC keys for session JWTs
+ * Keys are published ahead of use, rotated on a schedule and kept verifiable for a retention window after
+ * a successor takes over; verification looks keys up by kid, so any node sharing the file verifies any token
+ */
+@Component
+@Slf4j
+public class JwkKeyring {
+
+    /**
+     * Algorithms the authorization server's Nimbus encoder and decoder can sign and verify with
+     */
+    public static final Set<JWSAlgorithm> SUPPORTED_ALGORITHMS = Set.of(JWSAlgorithm.RS256, JWSAlgorithm.ES256);
+
+    private static final Predicate<JWK> ASYMMETRIC = key -> key instanceof AsymmetricJWK;
+    private static final Predicate<JWK> HMAC = key -> key instanceof OctetSequenceKey;
+    private static final Map<Path, Object> LOCK_MONITORS = new ConcurrentHashMap<>();
+
+    private final KeyringProperties properties;
+    private final Clock clock;
+    private final Path path;
+    private final Path lockPath;
+    private final JWSAlgorithm algorithm;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public JwkKeyring(KeyringProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    public JwkKeyring(KeyringProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.path = Path.of(properties.getPath());
+        this.lockPath = Path.of(properties.getPath() + ".lock").toAbsolutePath();
+        this.algorithm = JWSAlgorithm.parse(properties.getAlgorithm());
+        if (!SUPPORTED_ALGORITHMS.contains(algorithm)) {
+            throw new IllegalStateException("Unsupported signing algorithm " + algorithm + "; use one of " + SUPPORTED_ALGORITHMS);
+        }
+    }
+
+    @PostConstruct
+    public synchronized void initialize() {
+        rotateIfDue();
+        log.info("Loaded JWK keyring from {} ({} signing kid {}, {} keys)",
+                path, getSigningAlgorithm(), snapshot.signing().getKeyID(), snapshot.byKid().size());
+    }
+
+    /**
+     * Picks up keys written by other instances and rotates or prunes keys that are due
+     */
+    @Scheduled(fixedDelayString = "${app.security.keyring.check-interval:PT1M}",
+            initialDelayString = "${app.security.keyring.check-interval:PT1M}")
+    public synchronized void rotateIfDue() {
+        try {
+            Instant now = clock.instant();
+            // Read, rotate and write under the lock so instances sharing the file never generate competing keys
+            List<JWK> keys = withFileLock(() -> {
+                List<JWK> current = readKeys();
+                boolean changed = ensureSuccessor(current, ASYMMETRIC, algorithm, now);
+                changed |= ensureSuccessor(current, HMAC, JWSAlgorithm.HS256, now);
+                changed |= prune(current, ASYMMETRIC, now);
+                changed |= prune(current, HMAC, now);
+                if (changed) {
+                    write(current);
+                }
+                return current;
+            });
+            snapshot = Snapshot.of(keys, algorithm, now);
+        } catch (RuntimeException e) {
+            if (snapshot == null) {
+                throw e;
+            }
+            log.error("JWK keyring check failed; keeping the loaded keys", e);
+        }
+    }
+
+    /**
+     * Source of every published asymmetric key for verification and the JWK set endpoint; HMAC keys are never exposed
+     */
+    public JWKSource<SecurityContext> verificationJwkSource() {
+        return this::selectVerificationKeys;
+    }
+
+    /**
+     * Source holding only the current signing key, for the authorization server's JwtEncoder
+     */
+    public JWKSource<SecurityContext> signingJwkSource() {
+        return (jwkSelector, context) -> jwkSelector.select(new JWKSet(snapshot.signing()));
+    }
+
+    /**
+     * Current asymmetric signing key; its type follows the configured algorithm once a key of that type is active
+     */
+    public JWK getSigningKey() {
+        return snapshot.signing();
+    }
+
+    public JWSAlgorithm getSigningAlgorithm() {
+        return JWSAlgorithm.parse(snapshot.signing().getAlgorithm().getName());
+    }
+
+    /**
+     * Key id stamped into session JWTs
+     */
+    public String getSessionSigningKeyId() {
+        return getSessionSigningKey().keyId();
+    }
+
+    /**
+     * Key id and private or secret key that sign session JWTs, taken from one snapshot so they always pair up
+     */
+    public SessionSigningKey getSessionSigningKey() {
+        Snapshot current = snapshot;
+        return properties.isSessionTokensUseSigningKey() ? current.sessionShared() : current.sessionHmac();
+    }
+
+    /**
+     * Public or secret key that verifies a session JWT with the given kid, or null when the kid is unknown or retired
+     * Asymmetric keys only verify session JWTs while session tokens share the signing key; otherwise an authorization
+     * server access token would pass as a session token
+     */
+    public Key getSessionVerificationKey(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        Snapshot current = snapshot;
+        return properties.isSessionTokensUseSigningKey()
+                ? current.verificationKeys().get(kid)
+                : current.hmacVerificationKeys().get(kid);
+    }
+
+    public int getKeyCount() {
+        return snapshot.byKid().size();
+    }
+
+    // Private helper methods
+
+    private List<JWK> selectVerificationKeys(JWKSelector jwkSelector, SecurityContext context) {
+        // A kid in the selector is served by direct lookup instead of scanning the set
+        Snapshot current = snapshot;
+        JWKMatcher matcher = jwkSelector.getMatcher();
+        if (matcher.getKeyIDs() != null && !matcher.getKeyIDs().isEmpty()) {
+            List<JWK> candidates = new ArrayList<>();
+            for (String kid : matcher.getKeyIDs()) {
+                JWK key = current.byKid().get(kid);
+                if (ASYMMETRIC.test(key)) {
+                    candidates.add(key);
+                }
+            }
+            return jwkSelector.select(new JWKSet(candidates));
+        }
+        return jwkSelector.select(current.asymmetricKeys());
+    }
+
+    private boolean ensureSuccessor(List<JWK> keys, Predicate<JWK> family, JWSAlgorithm wanted, Instant now) {
+        List<JWK> ofFamily = sortedByActivation(keys, family);
+        if (ofFamily.isEmpty()) {
+            // Nothing to verify yet, so the first key signs immediately
+            keys.add(generate(wanted, now));
+            log.info("Generated initial {} signing key", wanted);
+            return true;
+        }
+        List<JWK> ofAlgorithm = ofFamily.stream().filter(key -> wanted.equals(key.getAlgorithm())).toList();
+        if (!ofAlgorithm.isEmpty()
+                && notBefore(ofAlgorithm.get(ofAlgorithm.size() - 1)).plus(properties.getRotationInterval()).isAfter(now)) {
+            return false;
+        }
+        // Covers both scheduled rotation and a configuration switch to another algorithm
+        JWK successor = generate(wanted, now.plus(properties.getPublishAhead()));
+        keys.add(successor);
+        log.info("Rotating {} signing key; {} starts signing at {}", wanted, successor.getKeyID(), notBefore(successor));
+        return true;
+    }
+
+    private boolean prune(List<JWK> keys, Predicate<JWK> family, Instant now) {
+        List<JWK> ofFamily = sortedByActivation(keys, family);
+        boolean changed = false;
+        for (int i = 0; i < ofFamily.size() - 1; i++) {
+            // A key retires once its successor has been signing for longer than the retention window
+            Instant successorActive = notBefore(ofFamily.get(i + 1));
+            if (!successorActive.isAfter(now) && successorActive.plus(properties.getRetention()).isBefore(now)) {
+                keys.remove(ofFamily.get(i));
+                log.info("Retired {} key {}", ofFamily.get(i).getAlgorithm(), ofFamily.get(i).getKeyID());
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private JWK generate(JWSAlgorithm keyAlgorithm, Instant notBefore) {
+        try {
+            String kid = UUID.randomUUID().toString();
+            Date issued = Date.from(clock.instant());
+            if (JWSAlgorithm.RS256.equals(keyAlgorithm)) {
+                return new RSAKeyGenerator(properties.getRsaKeySize())
+                        .keyID(kid).keyUse(KeyUse.SIGNATURE).algorithm(keyAlgorithm)
+                        .issueTime(issued).notBeforeTime(Date.from(notBefore))
+                        .generate();
+            }
+            if (JWSAlgorithm.ES256.equals(keyAlgorithm)) {
+                return new ECKeyGenerator(Curve.P_256)
+                        .keyID(kid).keyUse(KeyUse.SIGNATURE).algorithm(keyAlgorithm)
+                        .issueTime(issued).notBeforeTime(Date.from(notBefore))
+                        .generate();
+            }
+            // OctetSequenceKeyGenerator drops iat and nbf, so the key timestamps are set on a rebuilt key
+            OctetSequenceKey secret = new OctetSequenceKeyGenerator(256).generate();
+            return new OctetSequenceKey.Builder(secret.toByteArray())
+                    .keyID(kid).keyUse(KeyUse.SIGNATURE).algorithm(JWSAlgorithm.HS256)
+                    .issueTime(issued).notBeforeTime(Date.from(notBefore))
+                    .build();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not generate " + keyAlgorithm + " key", e);
+        }
+    }
+
+    private <T> T withFileLock(Supplier<T> action) {
+        // File locks are held on behalf of the whole JVM, so instances in one process also share a monitor per lock file
+        synchronized (LOCK_MONITORS.computeIfAbsent(lockPath, key -> new Object())) {
+            try {
+                Files.createDirectories(lockPath.getParent());
+                try (FileChannel channel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                     FileLock lock = channel.lock()) {
+                    return action.get();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not lock JWK keyring " + lockPath, e);
+            }
+        }
+    }
+
+    private List<JWK> readKeys() {
+        if (!Files.exists(path)) {
+            return new ArrayList<>();
+        }
+        try {
+            return new ArrayList<>(JWKSet.parse(Files.readString(path, StandardCharsets.UTF_8)).getKeys());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read JWK keyring " + path, e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("JWK keyring " + path + " is not a valid JWK set", e);
+        }
+    }
+
+    private void write(List<JWK> keys) {
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException e) {
+                log.debug("File system does not support POSIX permissions for {}", temp);
+            }
+            Files.writeString(temp, new JWKSet(keys).toString(false), StandardCharsets.UTF_8);
+            // Other instances reading the file never see a half-written keyring
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write JWK keyring " + path, e);
+        }
+    }
+
+    private static List<JWK> sortedByActivation(List<JWK> keys, Predicate<JWK> family) {
+        return keys.stream()
+                .filter(family)
+                .sorted(Comparator.comparing(JwkKeyring::notBefore))
+                .toList();
+    }
+
+    private static Instant notBefore(JWK key) {
+        Date date = key.getNotBeforeTime() != null ? key.getNotBeforeTime() : key.getIssueTime();
+        return date != null ? date.toInstant() : Instant.EPOCH;
+    }
+
+    /**
+     * Session JWT signing key paired with the kid stamped into the token header
+     */
+    public record SessionSigningKey(String keyId, Key key) {
+    }
+
+    private record Snapshot(Map<String, JWK> byKid, JWKSet asymmetricKeys, JWK signing,
+                            SessionSigningKey sessionHmac, SessionSigningKey sessionShared,
+                            Map<String, Key> hmacVerificationKeys, Map<String, Key> verificationKeys) {
+
+        static Snapshot of(List<JWK> keys, JWSAlgorithm algorithm, Instant now) {
+            Map<String, JWK> byKid = new HashMap<>();
+            Map<String, Key> signingKeys = new HashMap<>();
+            Map<String, Key> hmacVerificationKeys = new HashMap<>();
+            Map<String, Key> verificationKeys = new HashMap<>();
+            List<JWK> asymmetricKeys = new ArrayList<>();
+            try {
+                for (JWK key : keys) {
+                    byKid.put(key.getKeyID(), key);
+                    if (key instanceof OctetSequenceKey octetKey) {
+                        Key secret = octetKey.toSecretKey("HmacSHA256");
+                        signingKeys.put(key.getKeyID(), secret);
+                        hmacVerificationKeys.put(key.getKeyID(), secret);
+                        verificationKeys.put(key.getKeyID(), secret);
+                    } else if (key instanceof AsymmetricJWK asymmetricKey) {
+                        asymmetricKeys.add(key);
+                        signingKeys.put(key.getKeyID(), asymmetricKey.toPrivateKey());
+                        verificationKeys.put(key.getKeyID(), asymmetricKey.toPublicKey());
+                    }
+                }
+            } catch (JOSEException e) {
+                throw new IllegalStateException("JWK keyring holds an unusable key", e);
+            }
+            JWK signing = signingKey(keys, ASYMMETRIC, algorithm, now);
+            JWK hmac = signingKey(keys, HMAC, JWSAlgorithm.HS256, now);
+            return new Snapshot(Map.copyOf(byKid), new JWKSet(asymmetricKeys), signing,
+                    new SessionSigningKey(hmac.getKeyID(), signingKeys.get(hmac.getKeyID())),
+                    new SessionSigningKey(signing.getKeyID(), signingKeys.get(signing.getKeyID())),
+                    Map.copyOf(hmacVerificationKeys), Map.copyOf(verificationKeys));
+        }
+
+        private static JWK signingKey(List<JWK> keys, Predicate<JWK> family, JWSAlgorithm algorithm, Instant now) {
+            // Newest active key of the configured algorithm; while a switch is still being published the
+            // previous algorithm keeps signing, and pending keys only verify
+            JWK newestActive = null;
+            JWK newestActiveWanted = null;
+            for (JWK key : sortedByActivation(keys, family)) {
+                if (newestActive == null || !notBefore(key).isAfter(now)) {
+                    newestActive = key;
+                    if (algorithm.equals(key.getAlgorithm())) {
+                        newestActiveWanted = key;
+                    }
+                }
+            }
+            return newestActiveWanted != null ? newestActiveWanted : newestActive;
+        }
+    }
+}
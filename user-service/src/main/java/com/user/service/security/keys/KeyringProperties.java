@@ -0,0 +1,47 @@
+package com.user.service.security.keys;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Signing keyring configuration bound from app.security.keyring.*
+ * Every instance must point at the same keyring file so tokens verify on any node.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.security.keyring")
+public class KeyringProperties {
+
+    /**
+     * JWK set file holding the private signing keys; created on first start when missing
+     */
+    private String path = "keys/jwk-keyring.json";
+
+    /**
+     * How long a key signs before a successor is generated
+     */
+    private Duration rotationInterval = Duration.ofDays(30);
+
+    /**
+     * How long a new key is published for verification before it starts signing, so every node has loaded it
+     */
+    private Duration publishAhead = Duration.ofMinutes(5);
+
+    /**
+     * How long a superseded key stays verifiable; must exceed the longest token lifetime
+     */
+    private Duration retention = Duration.ofDays(2);
+
+    /**
+     * JWS algorithm for OAuth2 tokens: RS256 or ES256; changing it publishes a key of the new type ahead of use
+     */
+    private String algorithm = "RS256";
+
+    private int rsaKeySize = 2048;
+
+    /**
+     * Sign session JWTs with the shared asymmetric key instead of the keyring's HMAC key
+     */
+    private boolean sessionTokensUseSigningKey = false;
+}
@@ -8,11 +8,19 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 @Entity
 @Table(name = "`client`")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "clients")
+@NaturalIdCache(region = "clients-by-client-id")
 public class Client {
 	@Id
 	private String id;
+	@NaturalId
 	private String clientId;
 	private Instant clientIdIssuedAt;
 	private String clientSecret;
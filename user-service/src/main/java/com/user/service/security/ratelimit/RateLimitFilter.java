@@ -0,0 +1,71 @@
+package com.user.service.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.service.dto.response.ApiResponse;
+import com.user.service.error.ErrorCodes;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Per-IP rate limiting for unauthenticated endpoints
+ * Runs before authentication so rejected requests never reach BCrypt or the database
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitRegistry registry;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitRegistry registry, ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @Nonnull HttpServletRequest request,
+        @Nonnull HttpServletResponse response,
+        @Nonnull FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimiter limiter = registry.forRoute(path);
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientIp = clientIp(request);
+        long waitNanos = limiter.tryAcquire(clientIp);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.warn("Rate limit exceeded for {} from {}", path, clientIp);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimitRegistry.retryAfterSeconds(waitNanos)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(ErrorCodes.RATE_LIMIT_EXCEEDED, path));
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (registry.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,47 @@
+package com.user.service.security.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rate limit configuration bound from app.rate-limit.*
+ * Route limits are keyed by request path and applied per client IP; the username limit applies to login attempts.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on tracked keys per limiter before idle buckets are evicted
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * Use the first X-Forwarded-For address as the client IP; only enable behind a trusted proxy
+     */
+    private boolean trustForwardedFor = false;
+
+    private Map<String, Limit> routes = new LinkedHashMap<>();
+
+    private Limit username = new Limit(10, Duration.ofMinutes(5));
+
+    @Data
+    public static class Limit {
+        private int capacity;
+        private Duration period;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.user.service.security.ratelimit;
+
+import com.user.service.error.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the configured rate limiters: one per limited route (keyed by client IP) and one keyed by username
+ */
+@Component
+@Slf4j
+public class RateLimitRegistry {
+
+    private final boolean enabled;
+    private final boolean trustForwardedFor;
+    private final Map<String, RateLimiter> routeLimiters = new HashMap<>();
+    private final RateLimiter usernameLimiter;
+
+    public RateLimitRegistry(RateLimitProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.trustForwardedFor = properties.isTrustForwardedFor();
+        properties.getRoutes().forEach((path, limit) -> routeLimiters.put(path,
+                new RateLimiter(limit.getCapacity(), limit.getPeriod(), properties.getMaxKeys())));
+        RateLimitProperties.Limit username = properties.getUsername();
+        this.usernameLimiter = new RateLimiter(username.getCapacity(), username.getPeriod(), properties.getMaxKeys());
+        log.info("Rate limiting {} for routes {}", enabled ? "enabled" : "disabled", routeLimiters.keySet());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isTrustForwardedFor() {
+        return trustForwardedFor;
+    }
+
+    /**
+     * Returns the limiter for an exact request path, or null if the path is not limited
+     */
+    public RateLimiter forRoute(String path) {
+        return enabled ? routeLimiters.get(path) : null;
+    }
+
+    /**
+     * Takes a token from the username bucket
+     * @throws RateLimitExceededException if the username has exhausted its attempts
+     */
+    public void checkUsername(String username) {
+        if (!enabled || username == null) {
+            return;
+        }
+        long waitNanos = usernameLimiter.tryAcquire(username.toLowerCase(Locale.ROOT));
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException("Too many attempts for this account", retryAfterSeconds(waitNanos));
+        }
+    }
+
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,102 @@
+package com.user.service.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Keyed token-bucket rate limiter using the generic cell rate algorithm (GCRA)
+ * Each key's whole bucket state is one theoretical-arrival-time long updated by CAS, so the hot path takes no locks.
+ * A bucket whose arrival time has passed is full and indistinguishable from a new one, so such buckets are
+ * evicted when the key count reaches its bound, at most once per emission interval; keys that still do not fit
+ * share a single overflow bucket.
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflowBucket;
+    private final AtomicLong nextSweep;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public RateLimiter(int capacity, Duration period, int maxKeys) {
+        this(capacity, period, maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(int capacity, Duration period, int maxKeys, LongSupplier clock) {
+        if (capacity <= 0 || period.isZero() || period.isNegative() || maxKeys <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity, period and maxKeys must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+        this.overflowBucket = new AtomicLong(clock.getAsLong());
+        this.nextSweep = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Takes one token for the key
+     * @return 0 if the request is allowed, otherwise the nanoseconds until a token becomes available
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = bucketFor(key, now);
+        }
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + emissionIntervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Drops buckets that have fully refilled; their state equals that of a fresh bucket
+     */
+    public void evictIdle() {
+        evictIdle(clock.getAsLong());
+    }
+
+    private AtomicLong bucketFor(String key, long now) {
+        if (buckets.size() >= maxKeys) {
+            // A sweep scans every key, so while the map stays full new keys go to the overflow bucket in between
+            long due = nextSweep.get();
+            if (now - due >= 0 && nextSweep.compareAndSet(due, now + emissionIntervalNanos)) {
+                evictIdle(now);
+            }
+            if (buckets.size() >= maxKeys) {
+                return overflowBucket;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private void evictIdle(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.get() <= now);
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.user.service.security.repositories;
+
+import java.util.Optional;
+
+import com.user.service.security.models.Client;
+
+/**
+ * Client lookups by natural id (clientId), served from the second-level cache when present
+ */
+public interface ClientNaturalIdRepository {
+
+	Optional<Client> findByClientId(String clientId);
+}
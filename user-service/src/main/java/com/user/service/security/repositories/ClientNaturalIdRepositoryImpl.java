@@ -0,0 +1,28 @@
+package com.user.service.security.repositories;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.user.service.security.models.Client;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Spring Data fragment resolving clients through Hibernate's natural-id API instead of a derived query
+ */
+public class ClientNaturalIdRepositoryImpl implements ClientNaturalIdRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Client> findByClientId(String clientId) {
+		return entityManager.unwrap(Session.class)
+				.bySimpleNaturalId(Client.class)
+				.loadOptional(clientId);
+	}
+}
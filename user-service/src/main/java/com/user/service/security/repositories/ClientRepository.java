@@ -1,7 +1,5 @@
 package com.user.service.security.repositories;
 
-import java.util.Optional;
-
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +10,5 @@ import com.user.service.security.models.Client;
 
 
 @Repository
-public interface ClientRepository extends JpaRepository<Client, String> {
-	Optional<Client> findByClientId(String clientId);
+public interface ClientRepository extends JpaRepository<Client, String>, ClientNaturalIdRepository {
 }
\ No newline at end of file
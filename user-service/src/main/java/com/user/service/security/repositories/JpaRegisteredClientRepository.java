@@ -8,6 +8,8 @@ import java.util.Set;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.service.security.ClientCredentialsTokenCache;
+import com.user.service.security.ClientSecretCache;
 import com.user.service.security.models.Client;
 
 import org.springframework.security.jackson2.SecurityJackson2Modules;
@@ -25,11 +27,16 @@ import org.springframework.util.StringUtils;
 @Component
 public class JpaRegisteredClientRepository implements RegisteredClientRepository {
 	private final ClientRepository clientRepository;
+	private final ClientSecretCache clientSecretCache;
+	private final ClientCredentialsTokenCache clientCredentialsTokenCache;
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
-	public JpaRegisteredClientRepository(ClientRepository clientRepository) {
+	public JpaRegisteredClientRepository(ClientRepository clientRepository, ClientSecretCache clientSecretCache,
+			ClientCredentialsTokenCache clientCredentialsTokenCache) {
 		Assert.notNull(clientRepository, "clientRepository cannot be null");
 		this.clientRepository = clientRepository;
+		this.clientSecretCache = clientSecretCache;
+		this.clientCredentialsTokenCache = clientCredentialsTokenCache;
 
 		ClassLoader classLoader = JpaRegisteredClientRepository.class.getClassLoader();
 		List<Module> securityModules = SecurityJackson2Modules.getModules(classLoader);
@@ -40,6 +47,10 @@ public class JpaRegisteredClientRepository implements RegisteredClientRepository
 	@Override
 	public void save(RegisteredClient registeredClient) {
 		Assert.notNull(registeredClient, "registeredClient cannot be null");
+		// An update may rotate the secret or change scopes; forget matches and tokens tied to the previous version
+		this.clientRepository.findById(registeredClient.getId())
+				.ifPresent(existing -> this.clientSecretCache.invalidate(existing.getClientSecret()));
+		this.clientCredentialsTokenCache.invalidateClient(registeredClient.getId());
 		this.clientRepository.save(toEntity(registeredClient));
 	}
 
@@ -9,6 +9,7 @@ import java.util.function.Consumer;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.service.security.ClientCredentialsTokenCache;
 import com.user.service.security.models.Authorization;
 import com.user.service.security.repositories.AuthorizationRepository;
 
@@ -38,13 +39,16 @@ import org.springframework.util.StringUtils;
 public class JpaOAuth2AuthorizationService implements OAuth2AuthorizationService {
 	private final AuthorizationRepository authorizationRepository;
 	private final RegisteredClientRepository registeredClientRepository;
+	private final ClientCredentialsTokenCache clientCredentialsTokenCache;
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
-	public JpaOAuth2AuthorizationService(AuthorizationRepository authorizationRepository, RegisteredClientRepository registeredClientRepository) {
+	public JpaOAuth2AuthorizationService(AuthorizationRepository authorizationRepository, RegisteredClientRepository registeredClientRepository,
+			ClientCredentialsTokenCache clientCredentialsTokenCache) {
 		Assert.notNull(authorizationRepository, "authorizationRepository cannot be null");
 		Assert.notNull(registeredClientRepository, "registeredClientRepository cannot be null");
 		this.authorizationRepository = authorizationRepository;
 		this.registeredClientRepository = registeredClientRepository;
+		this.clientCredentialsTokenCache = clientCredentialsTokenCache;
 
 		ClassLoader classLoader = JpaOAuth2AuthorizationService.class.getClassLoader();
 		List<Module> securityModules = SecurityJackson2Modules.getModules(classLoader);
@@ -56,12 +60,17 @@ public class JpaOAuth2AuthorizationService implements OAuth2AuthorizationService
 	public void save(OAuth2Authorization authorization) {
 		Assert.notNull(authorization, "authorization cannot be null");
 		this.authorizationRepository.save(toEntity(authorization));
+		// Revocation saves the authorization with an invalidated access token
+		if (authorization.getAccessToken() != null && authorization.getAccessToken().isInvalidated()) {
+			this.clientCredentialsTokenCache.invalidate(authorization);
+		}
 	}
 
 	@Override
 	public void remove(OAuth2Authorization authorization) {
 		Assert.notNull(authorization, "authorization cannot be null");
 		this.authorizationRepository.deleteById(authorization.getId());
+		this.clientCredentialsTokenCache.invalidate(authorization);
 	}
 
 	@Override
@@ -0,0 +1,47 @@
+package com.user.service.services;
+
+import com.user.service.dto.response.AvailabilityIndexStatsDto;
+
+/**
+ * Service interface for the in-memory index of taken usernames and emails
+ * A negative answer means the key is definitely free; a positive answer must be confirmed against the database
+ */
+public interface AvailabilityIndexService {
+
+    /**
+     * Returns false only if no user with this username can exist
+     */
+    boolean mightContainUsername(String username);
+
+    /**
+     * Returns false only if no user with this email can exist
+     */
+    boolean mightContainEmail(String email);
+
+    /**
+     * Records the database answer for a key the index reported as possibly taken
+     */
+    void recordConfirmation(boolean exists);
+
+    /**
+     * Adds a newly created user's keys to the index
+     */
+    void recordUser(String username, String email);
+
+    /**
+     * Adds a changed email address to the index
+     */
+    void recordEmail(String email);
+
+    /**
+     * Notes that a key left the table; stale keys are dropped on the next rebuild
+     */
+    void recordRemoval();
+
+    /**
+     * Rebuilds the index from the users table
+     */
+    AvailabilityIndexStatsDto rebuild();
+
+    AvailabilityIndexStatsDto getStats();
+}
@@ -0,0 +1,45 @@
+package com.user.service.services;
+
+import com.user.service.dto.response.EmailCampaignResponseDto;
+
+import java.util.List;
+
+/**
+ * Service interface for bulk email campaigns
+ * Campaigns page through users, queue emails through the outbox and checkpoint as they go
+ */
+public interface EmailCampaignService {
+
+    /**
+     * Start re-sending verification emails to every unverified user
+     * Existing unused verification tokens of those users are invalidated
+     * @param startedBy Admin who triggered the campaign
+     * @return The new campaign
+     */
+    EmailCampaignResponseDto startVerificationCampaign(String startedBy);
+
+    /**
+     * Get a campaign with its delivery progress
+     */
+    EmailCampaignResponseDto getCampaign(Long campaignId);
+
+    /**
+     * List campaigns, newest first
+     */
+    List<EmailCampaignResponseDto> getCampaigns();
+
+    /**
+     * Stop queueing further pages; already queued emails are still delivered
+     */
+    EmailCampaignResponseDto pauseCampaign(Long campaignId);
+
+    /**
+     * Continue a paused or failed campaign from its checkpoint
+     */
+    EmailCampaignResponseDto resumeCampaign(Long campaignId);
+
+    /**
+     * Stop a campaign for good
+     */
+    EmailCampaignResponseDto cancelCampaign(Long campaignId);
+}
@@ -0,0 +1,31 @@
+package com.user.service.services;
+
+import com.user.service.entity.EmailOutbox.EmailType;
+import com.user.service.entity.User;
+
+import java.util.List;
+
+/**
+ * Service interface for the transactional email outbox
+ * Enqueue methods join the caller's transaction, so an email is queued if and only if the business change commits
+ */
+public interface EmailOutboxService {
+
+    /**
+     * Queue a single email for the user
+     * @param token Verification, activation or reset token, if the email type carries one
+     */
+    void enqueue(EmailType emailType, User user, String token);
+
+    /**
+     * Queue one email of the same type per user in a single batch
+     * @param tokens Tokens aligned with users, or null for types without a token
+     */
+    void enqueueAll(EmailType emailType, List<User> users, List<String> tokens);
+
+    /**
+     * Claim and send due emails
+     * @return number of emails sent
+     */
+    int dispatchPending();
+}
@@ -0,0 +1,30 @@
+package com.user.service.services;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service interface for email templates
+ * Templates are compiled once when loaded and rendered per message
+ */
+public interface EmailTemplateService {
+
+    /**
+     * Render a template with the given values
+     * @param templateName Template file name without extension (e.g. "email-verification")
+     * @param model Values for the template's {{variables}}
+     * @return Rendered HTML
+     */
+    String render(String templateName, Map<String, ?> model);
+
+    /**
+     * Names of the templates currently loaded
+     */
+    Set<String> getTemplateNames();
+
+    /**
+     * Re-read and recompile all templates from the configured location
+     * @return Number of templates loaded
+     */
+    int reload();
+}
@@ -0,0 +1,22 @@
+package com.user.service.services;
+
+import com.user.service.dto.response.UserAccountResponseDto;
+
+import java.util.Set;
+
+/**
+ * Service interface for deriving ETags of user and address reads from version columns only
+ * Each method returns null when the resource does not exist, so the caller falls through to its normal 404
+ */
+public interface EntityTagService {
+
+    String getProfileETag(Long userId);
+
+    String getAddressesETag(Long userId);
+
+    String getAddressETag(Long userId, Long addressId);
+
+    String getDefaultAddressETag(Long userId);
+
+    String getAccountETag(Long userId, Set<UserAccountResponseDto.Part> parts);
+}
@@ -0,0 +1,31 @@
+package com.user.service.services;
+
+/**
+ * Service interface for login bookkeeping kept off the request path
+ * Failed attempts are counted in memory and only the lock transition is persisted;
+ * last-login stamps are coalesced and written in periodic batches.
+ */
+public interface LoginActivityService {
+
+    /**
+     * Records a failed password attempt
+     * @return true if this attempt locked the account
+     */
+    boolean recordFailure(Long userId);
+
+    /**
+     * Records a successful login: clears the failure window and queues a last-login stamp
+     */
+    void recordSuccess(Long userId, int persistedFailedAttempts);
+
+    /**
+     * Forgets in-memory failures, e.g. after an administrator unlocks the account
+     */
+    void clearFailures(Long userId);
+
+    /**
+     * Writes queued last-login stamps to the database
+     * @return number of users updated
+     */
+    int flushLastLogins();
+}
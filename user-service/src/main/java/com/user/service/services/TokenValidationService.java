@@ -0,0 +1,19 @@
+package com.user.service.services;
+
+import com.user.service.dto.response.TokenValidationBatchResponseDto;
+
+import java.util.List;
+
+/**
+ * Service interface for validating session tokens on behalf of downstream services
+ */
+public interface TokenValidationService {
+
+    /**
+     * Validate a batch of session tokens in one call.
+     * A token is valid when its signature and expiry check out and its subject is an unlocked user.
+     * @param tokens Tokens to validate, without the Bearer prefix
+     * @return Per-token results in request order
+     */
+    TokenValidationBatchResponseDto validateBatch(List<String> tokens);
+}
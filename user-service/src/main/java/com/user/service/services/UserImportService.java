@@ -0,0 +1,23 @@
+package com.user.service.services;
+
+import com.user.service.dto.response.BulkImportResponseDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk user onboarding
+ * Imports registrations from a CSV stream in batches
+ */
+public interface UserImportService {
+
+    /**
+     * Import users from a CSV stream.
+     * The first line must be a header containing at least username, email and password;
+     * firstName, lastName, phone and role are optional columns.
+     * @param csv CSV content (UTF-8)
+     * @param sendVerificationEmails whether to queue verification emails for imported users
+     * @return Import summary with per-row errors
+     */
+    BulkImportResponseDto importUsers(InputStream csv, boolean sendVerificationEmails) throws IOException;
+}
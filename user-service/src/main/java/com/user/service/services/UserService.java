@@ -3,12 +3,15 @@ package com.user.service.services;
 import com.user.service.dto.request.AddressRequestDto;
 import com.user.service.dto.request.UserProfileRequestDto;
 import com.user.service.dto.response.AddressResponseDto;
+import com.user.service.dto.response.UserAccountResponseDto;
+import com.user.service.dto.response.UserBatchLookupResponseDto;
 import com.user.service.dto.response.UserResponseDto;
 import com.user.service.entity.User;
 import com.user.service.entity.Role;
 import com.user.service.controller.AdminController.AdminStatsResponse;
 
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -61,6 +64,11 @@ public interface UserService {
      * Get default address for user
      */
     AddressResponseDto getDefaultAddress(Long userId);
+
+    /**
+     * Get the selected parts of the account page (profile, addresses, default address) in one read
+     */
+    UserAccountResponseDto getUserAccount(Long userId, Set<UserAccountResponseDto.Part> parts);
     
     /**
      * Get user by ID (internal use)
@@ -71,6 +79,11 @@ public interface UserService {
      * Check if user exists and is active
      */
     boolean isUserActive(Long userId);
+
+    /**
+     * Look up many users by id; results follow request order and unknown ids are reported as missing
+     */
+    UserBatchLookupResponseDto getUserSummaries(List<Long> userIds, boolean useCache);
     
     // Admin methods for role-based access control
     
@@ -0,0 +1,13 @@
+package com.user.service.services;
+
+/**
+ * Service interface for purging verification tokens that can no longer be used
+ */
+public interface VerificationTokenCleanupService {
+
+    /**
+     * Delete expired tokens and used tokens past their retention, in bounded batches
+     * @return Number of tokens deleted
+     */
+    int purgeTokens();
+}
@@ -0,0 +1,247 @@
+package com.user.service.services.impl;
+
+import com.user.service.dao.UserDao;
+import com.user.service.dto.response.AvailabilityIndexStatsDto;
+import com.user.service.repository.projection.UserIdentityView;
+import com.user.service.services.AvailabilityIndexService;
+import com.user.service.util.BloomFilter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of AvailabilityIndexService backed by two Bloom filters
+ * Built at startup by keyset-paging the users table and rebuilt periodically or once too many keys went stale
+ */
+@Service
+@Slf4j
+public class AvailabilityIndexServiceImpl implements AvailabilityIndexService {
+
+    @Autowired
+    private UserDao userDao;
+
+    @Value("${app.registration.availability-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.registration.availability-index.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${app.registration.availability-index.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.registration.availability-index.page-size:5000}")
+    private int pageSize;
+
+    @Value("${app.registration.availability-index.rebuild-interval-minutes:60}")
+    private long rebuildIntervalMinutes;
+
+    @Value("${app.registration.availability-index.stale-rebuild-ratio:0.1}")
+    private double staleRebuildRatio;
+
+    private volatile Filters active;
+    private volatile Filters building;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong staleKeys = new AtomicLong();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    private volatile long lastRebuildMillis;
+    private volatile LocalDateTime lastRebuiltAt;
+
+    private ScheduledExecutorService rebuildExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleRebuilds() {
+        if (!enabled) {
+            log.info("Availability index disabled; availability checks go to the database");
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("availability-index-");
+        threadFactory.setDaemon(true);
+        rebuildExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        // Other instances and direct SQL writes are only picked up by a rebuild
+        rebuildExecutor.scheduleWithFixedDelay(this::rebuildQuietly, 0, rebuildIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    void stopRebuilds() {
+        if (rebuildExecutor != null) {
+            rebuildExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean mightContainUsername(String username) {
+        Filters current = active;
+        if (current == null || username == null) {
+            return true;
+        }
+        return countLookup(current.usernames().mightContain(normalize(username)));
+    }
+
+    @Override
+    public boolean mightContainEmail(String email) {
+        Filters current = active;
+        if (current == null || email == null) {
+            return true;
+        }
+        return countLookup(current.emails().mightContain(normalize(email)));
+    }
+
+    @Override
+    public void recordConfirmation(boolean exists) {
+        if (!exists && active != null) {
+            falsePositives.increment();
+        }
+    }
+
+    @Override
+    public void recordUser(String username, String email) {
+        add(username, email);
+    }
+
+    @Override
+    public void recordEmail(String email) {
+        add(null, email);
+    }
+
+    @Override
+    public void recordRemoval() {
+        Filters current = active;
+        long stale = staleKeys.incrementAndGet();
+        if (current != null && rebuildExecutor != null
+                && stale > staleRebuildRatio * current.usernames().getInsertions()
+                && !rebuilding.get()) {
+            rebuildExecutor.execute(this::rebuildQuietly);
+        }
+    }
+
+    @Override
+    public AvailabilityIndexStatsDto rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("Availability index rebuild already in progress");
+            return getStats();
+        }
+        try {
+            long start = System.nanoTime();
+            long size = Math.max(expectedInsertions, userDao.count() * 2);
+            Filters next = new Filters(BloomFilter.create(size, falsePositiveRate), BloomFilter.create(size, falsePositiveRate));
+            // Registrations that commit while we page are written to both generations
+            building = next;
+            long staleAtStart = staleKeys.get();
+
+            long afterId = 0L;
+            List<UserIdentityView> page;
+            do {
+                page = userDao.findIdentitiesAfterId(afterId, pageSize);
+                for (UserIdentityView identity : page) {
+                    next.usernames().put(normalize(identity.getUsername()));
+                    next.emails().put(normalize(identity.getEmail()));
+                    afterId = identity.getId();
+                }
+            } while (page.size() == pageSize);
+
+            active = next;
+            staleKeys.addAndGet(-staleAtStart);
+            lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+            lastRebuiltAt = LocalDateTime.now();
+            log.info("Availability index rebuilt with {} users in {} ms ({} bytes)",
+                    next.usernames().getInsertions(), lastRebuildMillis, memoryBytes(next));
+            return getStats();
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    @Override
+    public AvailabilityIndexStatsDto getStats() {
+        Filters current = active;
+        long misses = definiteMisses.sum();
+        long wrong = falsePositives.sum();
+        AvailabilityIndexStatsDto.AvailabilityIndexStatsDtoBuilder stats = AvailabilityIndexStatsDto.builder()
+                .enabled(enabled)
+                .ready(current != null)
+                .staleKeys(staleKeys.get())
+                .lookups(lookups.sum())
+                .definiteMisses(misses)
+                .falsePositives(wrong)
+                .observedFalsePositiveRate(misses + wrong == 0 ? 0.0 : (double) wrong / (misses + wrong))
+                .lastRebuildMillis(lastRebuildMillis)
+                .lastRebuiltAt(lastRebuiltAt);
+        if (current != null) {
+            stats.usernameKeys(current.usernames().getInsertions())
+                    .emailKeys(current.emails().getInsertions())
+                    .bitsPerFilter(current.usernames().getBitCount())
+                    .hashFunctions(current.usernames().getHashCount())
+                    .memoryBytes(memoryBytes(current))
+                    .expectedFalsePositiveRate(Math.max(
+                            current.usernames().expectedFalsePositiveProbability(),
+                            current.emails().expectedFalsePositiveProbability()));
+        }
+        return stats.build();
+    }
+
+    // Private helper methods
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Availability index rebuild failed; keeping the previous index", e);
+        }
+    }
+
+    private boolean countLookup(boolean mightContain) {
+        lookups.increment();
+        if (!mightContain) {
+            definiteMisses.increment();
+        }
+        return mightContain;
+    }
+
+    private void add(String username, String email) {
+        Filters current = active;
+        Filters next = building;
+        for (Filters filters : new Filters[] {current, next}) {
+            if (filters == null) {
+                continue;
+            }
+            if (username != null) {
+                filters.usernames().put(normalize(username));
+            }
+            if (email != null) {
+                filters.emails().put(normalize(email));
+            }
+        }
+    }
+
+    private static String normalize(String key) {
+        // Lower-casing only widens matches, so case-insensitive collations stay covered
+        return key.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long memoryBytes(Filters filters) {
+        return filters.usernames().getMemoryBytes() + filters.emails().getMemoryBytes();
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+    }
+}
@@ -0,0 +1,292 @@
+package com.user.service.services.impl;
+
+import com.user.service.dao.EmailOutboxDao;
+import com.user.service.dao.UserBatchDao;
+import com.user.service.dao.UserDao;
+import com.user.service.dto.response.EmailCampaignResponseDto;
+import com.user.service.entity.EmailCampaign;
+import com.user.service.entity.EmailCampaign.Status;
+import com.user.service.entity.EmailOutbox;
+import com.user.service.entity.EmailOutbox.EmailType;
+import com.user.service.entity.User;
+import com.user.service.entity.VerificationToken;
+import com.user.service.entity.VerificationToken.TokenType;
+import com.user.service.error.BusinessLogicException;
+import com.user.service.error.ErrorCodes;
+import com.user.service.repository.EmailCampaignRepository;
+import com.user.service.repository.EmailOutboxRepository;
+import com.user.service.repository.VerificationTokenRepository;
+import com.user.service.services.EmailCampaignService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Implementation of EmailCampaignService
+ * A background runner keyset-pages unverified users; each page's tokens, outbox rows and checkpoint are written
+ * in one transaction, and the checkpoint only moves from the value the page was read after while the campaign is
+ * running. A second runner on another instance, or a page that raced a pause, therefore rolls back instead of
+ * queueing duplicates, and a restart resumes after the last committed page.
+ * The runner waits while too many of the campaign's emails are still undelivered, leaving the send rate
+ * to the outbox dispatcher's concurrency and throttle settings.
+ */
+@Service
+@Slf4j
+public class EmailCampaignServiceImpl implements EmailCampaignService {
+
+    private static final Set<EmailOutbox.Status> UNDELIVERED = EnumSet.of(EmailOutbox.Status.PENDING, EmailOutbox.Status.SENDING);
+
+    @Autowired
+    private EmailCampaignRepository emailCampaignRepository;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EmailOutboxDao emailOutboxDao;
+
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private UserBatchDao userBatchDao;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.email.campaign.page-size:500}")
+    private int pageSize;
+
+    @Value("${app.email.campaign.max-undelivered:5000}")
+    private long maxUndelivered;
+
+    @Value("${app.email.campaign.backpressure-wait-ms:1000}")
+    private long backpressureWaitMs;
+
+    @Value("${app.email.verification.expiry-hours:24}")
+    private int verificationExpiryHours;
+
+    private final Set<Long> runningCampaigns = ConcurrentHashMap.newKeySet();
+    private final ExecutorService runner;
+
+    private volatile boolean shuttingDown;
+
+    public EmailCampaignServiceImpl() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("email-campaign-");
+        threadFactory.setDaemon(true);
+        this.runner = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedCampaigns() {
+        for (EmailCampaign campaign : emailCampaignRepository.findByStatus(Status.RUNNING)) {
+            log.info("Resuming email campaign {} after user {}", campaign.getId(), campaign.getLastUserId());
+            submit(campaign.getId());
+        }
+    }
+
+    @PreDestroy
+    void stopRunner() {
+        // Campaigns stay RUNNING in the database and are picked up again on the next start
+        shuttingDown = true;
+        runner.shutdownNow();
+    }
+
+    @Override
+    public EmailCampaignResponseDto startVerificationCampaign(String startedBy) {
+        if (emailCampaignRepository.existsByStatus(Status.RUNNING)) {
+            throw new BusinessLogicException(ErrorCodes.RESOURCE_CONFLICT, "Another email campaign is already running");
+        }
+        EmailCampaign campaign = emailCampaignRepository.save(EmailCampaign.builder()
+                .emailType(EmailType.EMAIL_VERIFICATION)
+                .status(Status.RUNNING)
+                .startedBy(startedBy)
+                .updatedAt(LocalDateTime.now())
+                .build());
+        log.info("Email campaign {} started by {}", campaign.getId(), startedBy);
+        submit(campaign.getId());
+        return toDto(campaign);
+    }
+
+    @Override
+    public EmailCampaignResponseDto getCampaign(Long campaignId) {
+        return toDto(findCampaign(campaignId));
+    }
+
+    @Override
+    public List<EmailCampaignResponseDto> getCampaigns() {
+        return emailCampaignRepository.findAllByOrderByIdDesc().stream().map(this::toDto).toList();
+    }
+
+    @Override
+    public EmailCampaignResponseDto pauseCampaign(Long campaignId) {
+        transitionOrThrow(campaignId, Status.RUNNING, Status.PAUSED, null);
+        log.info("Email campaign {} paused", campaignId);
+        return getCampaign(campaignId);
+    }
+
+    @Override
+    public EmailCampaignResponseDto resumeCampaign(Long campaignId) {
+        EmailCampaign campaign = findCampaign(campaignId);
+        if (campaign.getStatus() != Status.PAUSED && campaign.getStatus() != Status.FAILED) {
+            throw new BusinessLogicException(ErrorCodes.OPERATION_NOT_ALLOWED,
+                    "Only paused or failed campaigns can be resumed");
+        }
+        if (emailCampaignRepository.existsByStatus(Status.RUNNING)) {
+            throw new BusinessLogicException(ErrorCodes.RESOURCE_CONFLICT, "Another email campaign is already running");
+        }
+        transitionOrThrow(campaignId, campaign.getStatus(), Status.RUNNING, null);
+        log.info("Email campaign {} resumed after user {}", campaignId, campaign.getLastUserId());
+        submit(campaignId);
+        return getCampaign(campaignId);
+    }
+
+    @Override
+    public EmailCampaignResponseDto cancelCampaign(Long campaignId) {
+        EmailCampaign campaign = findCampaign(campaignId);
+        if (campaign.getStatus() == Status.COMPLETED || campaign.getStatus() == Status.CANCELLED) {
+            throw new BusinessLogicException(ErrorCodes.OPERATION_NOT_ALLOWED, "Campaign has already finished");
+        }
+        transitionOrThrow(campaignId, campaign.getStatus(), Status.CANCELLED, LocalDateTime.now());
+        log.info("Email campaign {} cancelled", campaignId);
+        return getCampaign(campaignId);
+    }
+
+    // Private helper methods
+
+    private void submit(Long campaignId) {
+        if (!shuttingDown && runningCampaigns.add(campaignId)) {
+            runner.execute(() -> run(campaignId));
+        }
+    }
+
+    private void run(Long campaignId) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                EmailCampaign campaign = emailCampaignRepository.findById(campaignId).orElse(null);
+                if (campaign == null || campaign.getStatus() != Status.RUNNING) {
+                    return;
+                }
+                if (emailOutboxRepository.countByCampaignIdAndStatusIn(campaignId, UNDELIVERED) >= maxUndelivered) {
+                    Thread.sleep(backpressureWaitMs);
+                    continue;
+                }
+                List<Long> userIds = userDao.findUnverifiedIdsAfterId(campaign.getLastUserId(), pageSize);
+                if (userIds.isEmpty()) {
+                    emailCampaignRepository.transition(campaignId, Status.RUNNING, Status.COMPLETED,
+                            LocalDateTime.now(), null, LocalDateTime.now());
+                    log.info("Email campaign {} queued {} emails and completed", campaignId, campaign.getUsersQueued());
+                    return;
+                }
+                transactionTemplate.executeWithoutResult(status -> queuePage(campaign, userIds));
+            }
+        } catch (OptimisticLockingFailureException e) {
+            // Paused, cancelled or advanced by another runner; the page rolled back and is re-read below if still running
+            log.info("Email campaign {} page not queued: {}", campaignId, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Email campaign {} failed; resume it to continue from its checkpoint", campaignId, e);
+            String error = String.valueOf(e.getMessage());
+            emailCampaignRepository.transition(campaignId, Status.RUNNING, Status.FAILED, null,
+                    error.length() > 500 ? error.substring(0, 500) : error, LocalDateTime.now());
+        } finally {
+            runningCampaigns.remove(campaignId);
+        }
+        // A resume that raced with this runner's exit found it still registered; pick the campaign up again
+        if (!shuttingDown && emailCampaignRepository.findById(campaignId)
+                .map(campaign -> campaign.getStatus() == Status.RUNNING).orElse(false)) {
+            submit(campaignId);
+        }
+    }
+
+    private void queuePage(EmailCampaign campaign, List<Long> userIds) {
+        Long campaignId = campaign.getId();
+        // Claim the page first: the row lock makes a concurrent runner wait, then find the checkpoint moved
+        if (emailCampaignRepository.advanceCheckpoint(campaignId, campaign.getLastUserId(),
+                userIds.get(userIds.size() - 1), userIds.size(), Status.RUNNING, LocalDateTime.now()) == 0) {
+            throw new OptimisticLockingFailureException("Email campaign " + campaignId
+                    + " is no longer running from checkpoint " + campaign.getLastUserId());
+        }
+        verificationTokenRepository.invalidateUnusedTokens(userIds, TokenType.EMAIL_VERIFICATION);
+
+        LocalDateTime expiryDate = LocalDateTime.now().plusHours(verificationExpiryHours);
+        List<VerificationToken> tokens = new ArrayList<>(userIds.size());
+        List<EmailOutbox> entries = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            User user = new User();
+            user.setId(userId);
+            String token = UUID.randomUUID().toString();
+            tokens.add(VerificationToken.builder()
+                    .token(token)
+                    .user(user)
+                    .tokenType(TokenType.EMAIL_VERIFICATION)
+                    .expiryDate(expiryDate)
+                    .used(false)
+                    .build());
+            entries.add(EmailOutbox.builder()
+                    .emailType(EmailType.EMAIL_VERIFICATION)
+                    .userId(userId)
+                    .token(token)
+                    .campaignId(campaignId)
+                    .status(EmailOutbox.Status.PENDING)
+                    .attempts(0)
+                    .build());
+        }
+        userBatchDao.insertVerificationTokens(tokens);
+        emailOutboxDao.insertAll(entries);
+    }
+
+    private EmailCampaign findCampaign(Long campaignId) {
+        return emailCampaignRepository.findById(campaignId)
+                .orElseThrow(() -> new BusinessLogicException(ErrorCodes.OPERATION_NOT_ALLOWED,
+                        "Email campaign not found: " + campaignId));
+    }
+
+    private void transitionOrThrow(Long campaignId, Status expected, Status status, LocalDateTime completedAt) {
+        findCampaign(campaignId);
+        if (emailCampaignRepository.transition(campaignId, expected, status, completedAt, null, LocalDateTime.now()) == 0) {
+            throw new BusinessLogicException(ErrorCodes.OPERATION_NOT_ALLOWED,
+                    "Email campaign " + campaignId + " is not " + expected);
+        }
+    }
+
+    private EmailCampaignResponseDto toDto(EmailCampaign campaign) {
+        Long id = campaign.getId();
+        return EmailCampaignResponseDto.builder()
+                .id(id)
+                .emailType(campaign.getEmailType())
+                .status(campaign.getStatus())
+                .lastUserId(campaign.getLastUserId())
+                .usersQueued(campaign.getUsersQueued())
+                .pending(emailOutboxRepository.countByCampaignIdAndStatusIn(id, UNDELIVERED))
+                .sent(emailOutboxRepository.countByCampaignIdAndStatus(id, EmailOutbox.Status.SENT))
+                .failed(emailOutboxRepository.countByCampaignIdAndStatus(id, EmailOutbox.Status.FAILED))
+                .startedBy(campaign.getStartedBy())
+                .lastError(campaign.getLastError())
+                .createdAt(campaign.getCreatedAt())
+                .updatedAt(campaign.getUpdatedAt())
+                .completedAt(campaign.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,255 @@
+package com.user.service.services.impl;
+
+import com.user.service.dao.EmailOutboxDao;
+import com.user.service.dao.UserDao;
+import com.user.service.entity.EmailOutbox;
+import com.user.service.entity.EmailOutbox.EmailType;
+import com.user.service.entity.EmailOutbox.Status;
+import com.user.service.entity.User;
+import com.user.service.repository.EmailOutboxRepository;
+import com.user.service.security.ratelimit.RateLimiter;
+import com.user.service.services.EmailOutboxService;
+import com.user.service.services.EmailService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of EmailOutboxService
+ * The dispatcher claims due rows with a conditional update, sends them without holding a transaction,
+ * and records the outcome with bulk updates; failures are retried with exponential backoff.
+ * Each claimed batch is sent by a fixed pool of sender threads, throttled to a global sends-per-second limit.
+ */
+@Service
+@Slf4j
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EmailOutboxDao emailOutboxDao;
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Value("${app.email.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.email.outbox.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.email.outbox.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds;
+
+    @Value("${app.email.outbox.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Value("${app.email.outbox.claim-timeout-seconds:300}")
+    private long claimTimeoutSeconds;
+
+    @Value("${app.email.outbox.send-concurrency:4}")
+    private int sendConcurrency;
+
+    @Value("${app.email.outbox.max-sends-per-second:50}")
+    private int maxSendsPerSecond;
+
+    private ExecutorService senders;
+    private RateLimiter sendThrottle;
+
+    @PostConstruct
+    void startSenders() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("email-sender-");
+        threadFactory.setDaemon(true);
+        senders = Executors.newFixedThreadPool(Math.max(1, sendConcurrency), threadFactory);
+        if (maxSendsPerSecond > 0) {
+            sendThrottle = new RateLimiter(maxSendsPerSecond, Duration.ofSeconds(1), 1);
+        }
+    }
+
+    @PreDestroy
+    void stopSenders() {
+        senders.shutdownNow();
+    }
+
+    @Override
+    public void enqueue(EmailType emailType, User user, String token) {
+        emailOutboxRepository.save(newEntry(emailType, user.getId(), token));
+    }
+
+    @Override
+    public void enqueueAll(EmailType emailType, List<User> users, List<String> tokens) {
+        List<EmailOutbox> entries = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            entries.add(newEntry(emailType, users.get(i).getId(), tokens != null ? tokens.get(i) : null));
+        }
+        emailOutboxDao.insertAll(entries);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval-ms:1000}")
+    public int dispatchPending() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = emailOutboxRepository.releaseExpiredClaims(
+                now.minusSeconds(claimTimeoutSeconds), Status.PENDING, Status.SENDING);
+        if (released > 0) {
+            log.warn("Released {} outbox entries from expired claims", released);
+        }
+
+        int sent = 0;
+        for (int round = 0; round < maxBatchesPerRun; round++) {
+            List<Long> dueIds = emailOutboxRepository.findDueIds(Status.PENDING, now, PageRequest.of(0, batchSize));
+            if (dueIds.isEmpty()) {
+                break;
+            }
+            String claimToken = UUID.randomUUID().toString();
+            if (emailOutboxRepository.claim(dueIds, claimToken, LocalDateTime.now(), Status.PENDING, Status.SENDING) == 0) {
+                // Another dispatcher took this page; look again
+                continue;
+            }
+            sent += deliver(emailOutboxRepository.findByClaimToken(claimToken));
+        }
+        if (sent > 0) {
+            log.info("Email outbox dispatched {} emails", sent);
+        }
+        return sent;
+    }
+
+    // Private helper methods
+
+    private EmailOutbox newEntry(EmailType emailType, Long userId, String token) {
+        return EmailOutbox.builder()
+                .emailType(emailType)
+                .userId(userId)
+                .token(token)
+                .status(Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    private int deliver(List<EmailOutbox> batch) {
+        Set<Long> userIds = batch.stream().map(EmailOutbox::getUserId).collect(Collectors.toCollection(HashSet::new));
+        Map<Long, User> users = userDao.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // The batch bounds the work in flight; each future yields null on success or the failure message
+        List<EmailOutbox> submitted = new ArrayList<>(batch.size());
+        List<Future<String>> outcomes = new ArrayList<>(batch.size());
+        for (EmailOutbox entry : batch) {
+            User user = users.get(entry.getUserId());
+            if (user == null) {
+                recordFailure(entry, "User no longer exists", true);
+                continue;
+            }
+            submitted.add(entry);
+            outcomes.add(senders.submit(() -> sendThrottled(entry, user)));
+        }
+
+        List<Long> sentIds = new ArrayList<>(submitted.size());
+        for (int i = 0; i < submitted.size(); i++) {
+            EmailOutbox entry = submitted.get(i);
+            String error = awaitOutcome(outcomes.get(i));
+            if (error == null) {
+                sentIds.add(entry.getId());
+            } else {
+                log.warn("Failed to send {} email to user {}: {}", entry.getEmailType(), entry.getUserId(), error);
+                recordFailure(entry, error, false);
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            emailOutboxRepository.markSent(sentIds, LocalDateTime.now(), Status.SENT);
+        }
+        return sentIds.size();
+    }
+
+    private String sendThrottled(EmailOutbox entry, User user) {
+        try {
+            if (sendThrottle != null) {
+                long waitNanos;
+                while ((waitNanos = sendThrottle.tryAcquire("outbox")) > 0) {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+            }
+            send(entry, user);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted before sending";
+        } catch (Exception e) {
+            return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        }
+    }
+
+    private static String awaitOutcome(Future<String> outcome) {
+        try {
+            return outcome.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome.cancel(true);
+            return "Interrupted before sending";
+        } catch (ExecutionException e) {
+            return String.valueOf(e.getCause());
+        }
+    }
+
+    private void send(EmailOutbox entry, User user) {
+        switch (entry.getEmailType()) {
+            case EMAIL_VERIFICATION -> emailService.sendEmailVerification(user, entry.getToken());
+            case WELCOME -> emailService.sendWelcomeEmail(user);
+            case ACCOUNT_ACTIVATION -> emailService.sendAccountActivationEmail(user, entry.getToken());
+            case PASSWORD_RESET -> emailService.sendPasswordResetEmail(user, entry.getToken());
+        }
+    }
+
+    private void recordFailure(EmailOutbox entry, String error, boolean permanent) {
+        int attempts = entry.getAttempts() + 1;
+        boolean giveUp = permanent || attempts >= maxAttempts;
+        LocalDateTime nextAttemptAt = giveUp ? entry.getNextAttemptAt() : LocalDateTime.now().plusSeconds(backoffSeconds(attempts));
+        String lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+
+        emailOutboxRepository.markAttemptFailed(entry.getId(), giveUp ? Status.FAILED : Status.PENDING,
+                attempts, nextAttemptAt, lastError);
+        if (giveUp) {
+            log.error("Giving up on {} email {} for user {} after {} attempts: {}",
+                    entry.getEmailType(), entry.getId(), entry.getUserId(), attempts, error);
+        }
+    }
+
+    private long backoffSeconds(int attempts) {
+        // Exponential backoff with +/-20% jitter so failed batches do not retry in lockstep
+        long base = Math.min(maxBackoffSeconds, initialBackoffSeconds << Math.min(attempts - 1, 20));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Math.max(1, Math.round(base * jitter));
+    }
+}
@@ -0,0 +1,137 @@
+package com.user.service.services.impl;
+
+import com.user.service.entity.User;
+import com.user.service.services.EmailService;
+import com.user.service.services.EmailTemplateService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Implementation of EmailService for sending emails
+ * Currently logs emails (can be extended with actual email service integration)
+ */
+@Service
+@Slf4j
+public class EmailServiceImpl implements EmailService {
+
+    @Autowired
+    private EmailTemplateService emailTemplateService;
+
+    @Value("${app.base-url:http://localhost:8080}")
+    private String baseUrl;
+
+    @Value("${app.email.verification.expiry-hours:24}")
+    private int verificationExpiryHours;
+
+    @Override
+    public void sendEmailVerification(User user, String verificationToken) {
+        String subject = "Verify Your Email Address";
+        String verificationUrl = baseUrl + "/auth/verify?token=" + verificationToken;
+        
+        String content = buildEmailVerificationTemplate(user, verificationUrl);
+        
+        log.info("Sending email verification to: {} with token: {}", user.getEmail(), verificationToken);
+        log.info("Verification URL: {}", verificationUrl);
+        
+        // TODO: Integrate with actual email service (SendGrid, AWS SES, etc.)
+        // For now, just log the email content
+        logEmailContent(user.getEmail(), subject, content);
+    }
+
+    @Override
+    public void sendWelcomeEmail(User user) {
+        String subject = "Welcome to Our Ecommerce Platform!";
+        String content = buildWelcomeEmailTemplate(user);
+        
+        log.info("Sending welcome email to: {}", user.getEmail());
+        
+        // TODO: Integrate with actual email service
+        logEmailContent(user.getEmail(), subject, content);
+    }
+
+    @Override
+    public void sendPasswordResetEmail(User user, String resetToken) {
+        String subject = "Reset Your Password";
+        String resetUrl = baseUrl + "/auth/reset-password?token=" + resetToken;
+        
+        String content = buildPasswordResetTemplate(user, resetUrl);
+        
+        log.info("Sending password reset email to: {} with token: {}", user.getEmail(), resetToken);
+        log.info("Reset URL: {}", resetUrl);
+        
+        // TODO: Integrate with actual email service
+        logEmailContent(user.getEmail(), subject, content);
+    }
+
+    @Override
+    public void sendAccountActivationEmail(User user, String activationToken) {
+        String subject = "Activate Your Account";
+        String activationUrl = baseUrl + "/auth/activate?token=" + activationToken;
+        
+        String content = buildAccountActivationTemplate(user, activationUrl);
+        
+        log.info("Sending account activation email to: {} with token: {}", user.getEmail(), activationToken);
+        log.info("Activation URL: {}", activationUrl);
+        
+        // TODO: Integrate with actual email service
+        logEmailContent(user.getEmail(), subject, content);
+    }
+
+    @Override
+    public void sendEmail(String to, String subject, String content) {
+        log.info("Sending generic email to: {} with subject: {}", to, subject);
+        
+        // TODO: Integrate with actual email service
+        logEmailContent(to, subject, content);
+    }
+
+    @Override
+    public boolean isEmailServiceAvailable() {
+        // TODO: Check actual email service health
+        return true;
+    }
+
+    // Private helper methods for building email templates
+
+    private String buildEmailVerificationTemplate(User user, String verificationUrl) {
+        return emailTemplateService.render("email-verification", Map.of(
+                "name", displayName(user),
+                "verificationUrl", verificationUrl,
+                "expiryHours", verificationExpiryHours));
+    }
+
+    private String buildWelcomeEmailTemplate(User user) {
+        return emailTemplateService.render("welcome", Map.of(
+                "name", displayName(user),
+                "shopUrl", baseUrl));
+    }
+
+    private String buildPasswordResetTemplate(User user, String resetUrl) {
+        return emailTemplateService.render("password-reset", Map.of(
+                "name", displayName(user),
+                "resetUrl", resetUrl));
+    }
+
+    private String buildAccountActivationTemplate(User user, String activationUrl) {
+        return emailTemplateService.render("account-activation", Map.of(
+                "name", displayName(user),
+                "activationUrl", activationUrl,
+                "expiryHours", verificationExpiryHours));
+    }
+
+    private static String displayName(User user) {
+        return user.getFirstName() != null ? user.getFirstName() : user.getUsername();
+    }
+
+    private void logEmailContent(String to, String subject, String content) {
+        log.info("=== EMAIL SENT ===");
+        log.info("To: {}", to);
+        log.info("Subject: {}", subject);
+        log.info("Content Length: {} characters", content.length());
+        log.info("==================");
+    }
+}
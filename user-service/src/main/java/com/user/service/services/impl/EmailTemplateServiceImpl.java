@@ -0,0 +1,131 @@
+package com.user.service.services.impl;
+
+import com.user.service.services.EmailTemplateService;
+import com.user.service.util.template.CompiledTemplate;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Implementation of EmailTemplateService loading *.html templates from the classpath or a directory
+ * Optionally polls the templates for changes and swaps in recompiled versions
+ */
+@Service
+@Slf4j
+public class EmailTemplateServiceImpl implements EmailTemplateService {
+
+    private static final String EXTENSION = ".html";
+
+    @Value("${app.email.templates.location:classpath:templates/email/}")
+    private String location;
+
+    @Value("${app.email.templates.hot-reload:false}")
+    private boolean hotReload;
+
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+
+    private volatile Loaded loaded = new Loaded(Map.of(), Map.of());
+
+    @PostConstruct
+    void loadTemplates() {
+        // Fail startup on a broken template rather than on the first send
+        int count = reload();
+        log.info("Loaded {} email templates from {}", count, location);
+    }
+
+    @Override
+    public String render(String templateName, Map<String, ?> model) {
+        CompiledTemplate template = loaded.templates().get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template: " + templateName);
+        }
+        return template.render(model);
+    }
+
+    @Override
+    public Set<String> getTemplateNames() {
+        return loaded.templates().keySet();
+    }
+
+    @Override
+    public synchronized int reload() {
+        Map<String, CompiledTemplate> templates = new HashMap<>();
+        Map<String, Long> lastModified = new HashMap<>();
+        for (Resource resource : findTemplates()) {
+            String name = templateName(resource);
+            templates.put(name, CompiledTemplate.compile(name, read(resource)));
+            lastModified.put(name, lastModified(resource));
+        }
+        loaded = new Loaded(Map.copyOf(templates), Map.copyOf(lastModified));
+        return templates.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.templates.reload-interval-ms:2000}")
+    public void reloadIfChanged() {
+        if (!hotReload) {
+            return;
+        }
+        try {
+            Map<String, Long> current = new HashMap<>();
+            for (Resource resource : findTemplates()) {
+                current.put(templateName(resource), lastModified(resource));
+            }
+            if (!Objects.equals(current, loaded.lastModified())) {
+                int count = reload();
+                log.info("Email templates changed; reloaded {} templates", count);
+            }
+        } catch (RuntimeException e) {
+            log.error("Email template reload failed; keeping the previous templates", e);
+        }
+    }
+
+    // Private helper methods
+
+    private Resource[] findTemplates() {
+        String base = location.endsWith("/") ? location : location + "/";
+        try {
+            return resourceResolver.getResources(base + "*" + EXTENSION);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list email templates in " + location, e);
+        }
+    }
+
+    private static String templateName(Resource resource) {
+        String filename = Objects.requireNonNull(resource.getFilename());
+        return filename.substring(0, filename.length() - EXTENSION.length());
+    }
+
+    private static String read(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read email template " + resource.getDescription(), e);
+        }
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            // Resources inside a jar can't change at runtime
+            return 0L;
+        }
+    }
+
+    private record Loaded(Map<String, CompiledTemplate> templates, Map<String, Long> lastModified) {
+    }
+}
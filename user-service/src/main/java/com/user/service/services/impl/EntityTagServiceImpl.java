@@ -0,0 +1,112 @@
+package com.user.service.services.impl;
+
+import com.user.service.dao.UserDao;
+import com.user.service.dto.response.UserAccountResponseDto.Part;
+import com.user.service.repository.AddressRepository;
+import com.user.service.repository.projection.AddressVersionView;
+import com.user.service.repository.projection.UserVersionView;
+import com.user.service.services.EntityTagService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Implementation of EntityTagService
+ * Tags hash the updated_at columns (and last_login for profiles), which every write path bumps,
+ * so they change whenever the serialized body would
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class EntityTagServiceImpl implements EntityTagService {
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Override
+    public String getProfileETag(Long userId) {
+        return userDao.findVersionById(userId)
+                .map(version -> tag("profile", userId, userVersion(version)))
+                .orElse(null);
+    }
+
+    @Override
+    public String getAddressesETag(Long userId) {
+        Optional<UserVersionView> user = userDao.findVersionById(userId);
+        if (user.isEmpty()) {
+            return null;
+        }
+        return tag("addresses", userId, addressesVersion(addressRepository.findVersionsByUserId(userId)));
+    }
+
+    @Override
+    public String getAddressETag(Long userId, Long addressId) {
+        return addressRepository.findVersionByUserIdAndId(userId, addressId)
+                .map(version -> tag("address", userId, addressVersion(version)))
+                .orElse(null);
+    }
+
+    @Override
+    public String getDefaultAddressETag(Long userId) {
+        return addressRepository.findDefaultVersionByUserId(userId)
+                .map(version -> tag("default-address", userId, addressVersion(version)))
+                .orElse(null);
+    }
+
+    @Override
+    public String getAccountETag(Long userId, Set<Part> parts) {
+        Optional<UserVersionView> user = userDao.findVersionById(userId);
+        if (user.isEmpty()) {
+            return null;
+        }
+        String addresses = parts.contains(Part.ADDRESSES) || parts.contains(Part.DEFAULT_ADDRESS)
+                ? addressesVersion(addressRepository.findVersionsByUserId(userId))
+                : "";
+        // The field selection changes the body, so it is part of the tag
+        return tag("account", userId, new TreeSet<>(parts).toString(), userVersion(user.get()), addresses);
+    }
+
+    // Private helper methods
+
+    private static String userVersion(UserVersionView version) {
+        return version.getUpdatedAt() + "|" + version.getLastLogin();
+    }
+
+    private static String addressVersion(AddressVersionView version) {
+        return version.getId() + "@" + version.getUpdatedAt();
+    }
+
+    private static String addressesVersion(List<AddressVersionView> versions) {
+        StringBuilder joined = new StringBuilder();
+        for (AddressVersionView version : versions) {
+            joined.append(addressVersion(version)).append(';');
+        }
+        return joined.toString();
+    }
+
+    private static String tag(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(String.join("/", Arrays.stream(parts).map(String::valueOf).toList())
+                    .getBytes(StandardCharsets.UTF_8));
+            // 128 bits is plenty to tell versions apart and keeps the header short
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.user.service.services.impl;
+
+import com.user.service.dao.UserBatchDao;
+import com.user.service.dao.UserDao;
+import com.user.service.services.LoginActivityService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of LoginActivityService using per-user sliding windows and a coalescing last-login buffer
+ * Replaces the full-entity save that previously followed every login attempt
+ */
+@Service
+@Slf4j
+public class LoginActivityServiceImpl implements LoginActivityService {
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private UserBatchDao userBatchDao;
+
+    @Value("${app.security.login.max-failed-attempts:5}")
+    private int maxFailedAttempts;
+
+    @Value("${app.security.login.failure-window-minutes:15}")
+    private long failureWindowMinutes;
+
+    private final ConcurrentHashMap<Long, FailureWindow> failures = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LocalDateTime> pendingLastLogins = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean recordFailure(Long userId) {
+        long now = System.currentTimeMillis();
+        int attempts = failures.computeIfAbsent(userId, id -> new FailureWindow(maxFailedAttempts))
+                .record(now, windowMillis());
+        if (attempts < maxFailedAttempts) {
+            return false;
+        }
+
+        failures.remove(userId);
+        boolean locked = userDao.lockAfterFailedLogins(userId, attempts);
+        if (locked) {
+            log.warn("Account locked after {} failed login attempts: {}", attempts, userId);
+        }
+        return locked;
+    }
+
+    @Override
+    public void recordSuccess(Long userId, int persistedFailedAttempts) {
+        failures.remove(userId);
+        // Later logins overwrite earlier ones, so a burst of logins becomes a single UPDATE
+        pendingLastLogins.put(userId, LocalDateTime.now());
+        if (persistedFailedAttempts != 0) {
+            userDao.clearFailedLoginAttempts(userId);
+        }
+    }
+
+    @Override
+    public void clearFailures(Long userId) {
+        failures.remove(userId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.security.login.flush-interval-ms:5000}")
+    public int flushLastLogins() {
+        evictExpiredWindows();
+        if (pendingLastLogins.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        Iterator<Map.Entry<Long, LocalDateTime>> it = pendingLastLogins.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, LocalDateTime> entry = it.next();
+            batch.put(entry.getKey(), entry.getValue());
+            // Only drop the entry if no newer login replaced it meanwhile
+            pendingLastLogins.remove(entry.getKey(), entry.getValue());
+        }
+
+        try {
+            userBatchDao.updateLastLogins(batch);
+            log.debug("Flushed last-login stamps for {} users", batch.size());
+        } catch (Exception e) {
+            log.error("Failed to flush last-login stamps for {} users; will retry", batch.size(), e);
+            batch.forEach((id, stamp) -> pendingLastLogins.merge(id, stamp, (a, b) -> a.isAfter(b) ? a : b));
+            return 0;
+        }
+        return batch.size();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flushLastLogins();
+    }
+
+    // Private helper methods
+
+    private long windowMillis() {
+        return failureWindowMinutes * 60_000L;
+    }
+
+    private void evictExpiredWindows() {
+        long now = System.currentTimeMillis();
+        long window = windowMillis();
+        failures.values().removeIf(failureWindow -> failureWindow.isExpired(now, window));
+    }
+
+    /**
+     * Timestamps of the most recent failures for one user, held in a fixed-size ring
+     */
+    private static final class FailureWindow {
+        private final long[] timestamps;
+        private int next;
+
+        FailureWindow(int size) {
+            this.timestamps = new long[size];
+        }
+
+        synchronized int record(long now, long window) {
+            timestamps[next] = now;
+            next = (next + 1) % timestamps.length;
+            int count = 0;
+            for (long timestamp : timestamps) {
+                if (timestamp != 0 && now - timestamp < window) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        synchronized boolean isExpired(long now, long window) {
+            for (long timestamp : timestamps) {
+                if (timestamp != 0 && now - timestamp < window) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
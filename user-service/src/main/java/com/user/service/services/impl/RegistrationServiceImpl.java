@@ -4,19 +4,24 @@ import com.user.service.dao.UserDao;
 import com.user.service.dto.request.UserRegistrationRequestDto;
 import com.user.service.dto.response.UserRegistrationResponseDto;
 import com.user.service.entity.Role;
+import com.user.service.entity.EmailOutbox.EmailType;
 import com.user.service.entity.User;
 import com.user.service.entity.VerificationToken;
 import com.user.service.entity.VerificationToken.TokenType;
-import com.user.service.error.UserAlreadyExistsException;
+import com.user.service.repository.projection.UserIdentityView;
 import com.user.service.repository.VerificationTokenRepository;
-import com.user.service.services.EmailService;
+import com.user.service.services.AvailabilityIndexService;
+import com.user.service.services.EmailOutboxService;
 import com.user.service.services.RegistrationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,50 +43,61 @@ public class RegistrationServiceImpl implements RegistrationService {
     private VerificationTokenRepository verificationTokenRepository;
 
     @Autowired
-    private EmailService emailService;
+    private EmailOutboxService emailOutboxService;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AvailabilityIndexService availabilityIndexService;
+
     @Value("${app.email.verification.expiry-hours:24}")
     private int verificationExpiryHours;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserRegistrationResponseDto registerUser(UserRegistrationRequestDto requestDto) {
         log.info("Processing user registration for email: {}", requestDto.getEmail());
 
         try {
-            // Check if user already exists
-            if (isEmailAlreadyRegistered(requestDto.getEmail())) {
-                log.warn("Registration failed: Email already registered: {}", requestDto.getEmail());
-                return UserRegistrationResponseDto.userAlreadyExists(requestDto.getEmail());
+            // Check both unique keys in one query; the unique indexes remain the source of truth
+            UserRegistrationResponseDto conflict = null;
+            if (availabilityIndexService.mightContainUsername(requestDto.getUsername())
+                    || availabilityIndexService.mightContainEmail(requestDto.getEmail())) {
+                conflict = checkIdentityConflict(requestDto);
+                availabilityIndexService.recordConfirmation(conflict != null);
             }
-
-            if (isUsernameAlreadyTaken(requestDto.getUsername())) {
-                log.warn("Registration failed: Username already taken: {}", requestDto.getUsername());
-                return UserRegistrationResponseDto.validationError("Username is already taken");
+            if (conflict != null) {
+                return conflict;
             }
 
-            // Create new user
+            // Create new user, verification token and queued emails in a single transaction
             User user = createUserFromRequest(requestDto);
-            userDao.save(user);
-            log.info("User created successfully with ID: {}", user.getId());
-
-            // Generate verification token
-            String verificationToken = generateVerificationToken(user);
-            log.info("Verification token generated for user: {}", user.getId());
-
-            // Send verification email
-            if (requestDto.getRequireEmailVerification()) {
-                emailService.sendEmailVerification(user, verificationToken);
-                log.info("Verification email sent to: {}", user.getEmail());
-            }
-
-            // Send welcome email if requested
-            if (requestDto.getSendWelcomeEmail()) {
-                emailService.sendWelcomeEmail(user);
-                log.info("Welcome email sent to: {}", user.getEmail());
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    userDao.saveAndFlush(user);
+                    String verificationToken = generateVerificationToken(user);
+
+                    // Emails are delivered by the outbox dispatcher once this transaction commits
+                    if (requestDto.getRequireEmailVerification()) {
+                        emailOutboxService.enqueue(EmailType.EMAIL_VERIFICATION, user, verificationToken);
+                    }
+                    if (requestDto.getSendWelcomeEmail()) {
+                        emailOutboxService.enqueue(EmailType.WELCOME, user, null);
+                    }
+                });
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent registration won the race for the username or email
+                log.warn("Registration failed: Unique constraint violated for email: {}", requestDto.getEmail());
+                conflict = checkIdentityConflict(requestDto);
+                return conflict != null ? conflict
+                        : UserRegistrationResponseDto.validationError("Username or email is already registered");
             }
+            availabilityIndexService.recordUser(user.getUsername(), user.getEmail());
+            log.info("User created successfully with ID: {}", user.getId());
 
             return UserRegistrationResponseDto.success(
                 user.getId().toString(),
@@ -103,34 +119,15 @@ public class RegistrationServiceImpl implements RegistrationService {
         log.info("Processing email verification for token: {}", token);
 
         try {
-            VerificationToken verificationToken = verificationTokenRepository.findByToken(token)
-                    .orElse(null);
-
-            if (verificationToken == null) {
-                log.warn("Email verification failed: Invalid token: {}", token);
-                return false;
-            }
-
-            if (verificationToken.isExpired()) {
-                log.warn("Email verification failed: Token expired for user: {}", verificationToken.getUser().getId());
-                return false;
-            }
-
-            if (verificationToken.getUsed()) {
-                log.warn("Email verification failed: Token already used for user: {}", verificationToken.getUser().getId());
+            // The conditional update is the only check, so concurrent clicks cannot both succeed
+            if (verificationTokenRepository.consumeToken(token, LocalDateTime.now()) == 0) {
+                logRejectedToken("Email verification", token);
                 return false;
             }
 
-            // Mark token as used
-            verificationToken.markAsUsed();
-            verificationTokenRepository.save(verificationToken);
-
-            // Update user email verification status
-            User user = verificationToken.getUser();
-            user.setEmailVerified(true);
-            userDao.save(user);
+            userDao.markEmailVerifiedByToken(token);
 
-            log.info("Email verified successfully for user: {}", user.getId());
+            log.info("Email verified successfully for token: {}", token);
             return true;
 
         } catch (Exception e) {
@@ -144,35 +141,14 @@ public class RegistrationServiceImpl implements RegistrationService {
         log.info("Processing account activation for token: {}", token);
 
         try {
-            VerificationToken activationToken = verificationTokenRepository.findByToken(token)
-                    .orElse(null);
-
-            if (activationToken == null) {
-                log.warn("Account activation failed: Invalid token: {}", token);
-                return false;
-            }
-
-            if (activationToken.isExpired()) {
-                log.warn("Account activation failed: Token expired for user: {}", activationToken.getUser().getId());
-                return false;
-            }
-
-            if (activationToken.getUsed()) {
-                log.warn("Account activation failed: Token already used for user: {}", activationToken.getUser().getId());
+            if (verificationTokenRepository.consumeToken(token, LocalDateTime.now()) == 0) {
+                logRejectedToken("Account activation", token);
                 return false;
             }
 
-            // Mark token as used
-            activationToken.markAsUsed();
-            verificationTokenRepository.save(activationToken);
-
-            // Update user account status
-            User user = activationToken.getUser();
-            user.setAccountLocked(false);
-            user.setEmailVerified(true);
-            userDao.save(user);
+            userDao.activateByToken(token);
 
-            log.info("Account activated successfully for user: {}", user.getId());
+            log.info("Account activated successfully for token: {}", token);
             return true;
 
         } catch (Exception e) {
@@ -199,9 +175,9 @@ public class RegistrationServiceImpl implements RegistrationService {
 
             // Generate new verification token
             String newToken = generateVerificationToken(user);
-            emailService.sendEmailVerification(user, newToken);
+            emailOutboxService.enqueue(EmailType.EMAIL_VERIFICATION, user, newToken);
 
-            log.info("Verification email resent successfully to: {}", email);
+            log.info("Verification email queued for: {}", email);
             return true;
 
         } catch (Exception e) {
@@ -211,13 +187,26 @@ public class RegistrationServiceImpl implements RegistrationService {
     }
 
     @Override
+    // No transaction of its own, so a Bloom filter miss answers without borrowing a connection
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public boolean isEmailAlreadyRegistered(String email) {
-        return userDao.findByEmail(email).isPresent();
+        if (!availabilityIndexService.mightContainEmail(email)) {
+            return false;
+        }
+        boolean exists = userDao.existsByEmail(email);
+        availabilityIndexService.recordConfirmation(exists);
+        return exists;
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public boolean isUsernameAlreadyTaken(String username) {
-        return userDao.findByUsername(username).isPresent();
+        if (!availabilityIndexService.mightContainUsername(username)) {
+            return false;
+        }
+        boolean exists = userDao.existsByUsername(username);
+        availabilityIndexService.recordConfirmation(exists);
+        return exists;
     }
 
     @Override
@@ -236,7 +225,7 @@ public class RegistrationServiceImpl implements RegistrationService {
 
             // Generate new token
             String newToken = generateVerificationToken(user);
-            emailService.sendEmailVerification(user, newToken);
+            emailOutboxService.enqueue(EmailType.EMAIL_VERIFICATION, user, newToken);
 
             log.info("New verification token generated successfully for: {}", email);
             return true;
@@ -249,6 +238,23 @@ public class RegistrationServiceImpl implements RegistrationService {
 
     // Private helper methods
 
+    private UserRegistrationResponseDto checkIdentityConflict(UserRegistrationRequestDto requestDto) {
+        List<UserIdentityView> existing = userDao.findIdentitiesByUsernameOrEmail(
+                requestDto.getUsername(), requestDto.getEmail());
+
+        if (existing.stream().anyMatch(identity -> requestDto.getEmail().equalsIgnoreCase(identity.getEmail()))) {
+            log.warn("Registration failed: Email already registered: {}", requestDto.getEmail());
+            return UserRegistrationResponseDto.userAlreadyExists(requestDto.getEmail());
+        }
+
+        if (existing.stream().anyMatch(identity -> requestDto.getUsername().equalsIgnoreCase(identity.getUsername()))) {
+            log.warn("Registration failed: Username already taken: {}", requestDto.getUsername());
+            return UserRegistrationResponseDto.validationError("Username is already taken");
+        }
+
+        return null;
+    }
+
     private User createUserFromRequest(UserRegistrationRequestDto requestDto) {
         return User.builder()
                 .username(requestDto.getUsername())
@@ -283,11 +289,19 @@ public class RegistrationServiceImpl implements RegistrationService {
         return token;
     }
 
-    private void invalidateExistingTokens(Long userId) {
-        List<VerificationToken> existingTokens = verificationTokenRepository.findByUserId(userId);
-        for (VerificationToken token : existingTokens) {
-            token.markAsUsed();
-            verificationTokenRepository.save(token);
+    private void logRejectedToken(String operation, String token) {
+        // Only the failure path reads the token, to say why it was rejected
+        VerificationToken existing = verificationTokenRepository.findByToken(token).orElse(null);
+        if (existing == null) {
+            log.warn("{} failed: Invalid token: {}", operation, token);
+        } else if (existing.getUsed()) {
+            log.warn("{} failed: Token already used for user: {}", operation, existing.getUser().getId());
+        } else {
+            log.warn("{} failed: Token expired for user: {}", operation, existing.getUser().getId());
         }
     }
+
+    private void invalidateExistingTokens(Long userId) {
+        verificationTokenRepository.invalidateUserTokens(userId);
+    }
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -21,27 +22,53 @@ import com.user.service.entity.User;
 import com.user.service.error.InvalidCredentialsException;
 import com.user.service.error.UserAlreadyExistsException;
 import com.user.service.error.UserNotFoundException;
+import com.user.service.security.ratelimit.RateLimitRegistry;
 import com.user.service.services.AuthService;
+import com.user.service.services.AvailabilityIndexService;
+import com.user.service.services.LoginActivityService;
 import com.user.service.util.JwtTokenUtil;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 public class SubjectAuthServiceImpl implements AuthService {
     private final UserDao userDao;
     private final SessionDao sessionDao;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final AvailabilityIndexService availabilityIndexService;
+    private final RateLimitRegistry rateLimitRegistry;
+    private final LoginActivityService loginActivityService;
+    private final JwtTokenUtil jwtTokenUtil;
+    private final Timer passwordVerifyTimer;
 
     @Value("${session.concurrent.max:1}")
     private int maxConcurrentSessions;
 
-    public SubjectAuthServiceImpl(UserDao userDao, SessionDao sessionDao, BCryptPasswordEncoder passwordEncoder) {
+    public SubjectAuthServiceImpl(UserDao userDao, SessionDao sessionDao, BCryptPasswordEncoder passwordEncoder,
+                                  AvailabilityIndexService availabilityIndexService, RateLimitRegistry rateLimitRegistry,
+                                  LoginActivityService loginActivityService, JwtTokenUtil jwtTokenUtil,
+                                  MeterRegistry meterRegistry) {
         this.userDao = userDao;
         this.sessionDao = sessionDao;
         this.passwordEncoder = passwordEncoder;
+        this.availabilityIndexService = availabilityIndexService;
+        this.rateLimitRegistry = rateLimitRegistry;
+        this.loginActivityService = loginActivityService;
+        this.jwtTokenUtil = jwtTokenUtil;
+        // Timed apart from the request so login latency can be split into BCrypt cost and pool wait
+        this.passwordVerifyTimer = Timer.builder("auth.password.verify")
+                .description("Time spent checking a login password hash")
+                .register(meterRegistry);
     }
 
     @Override
     public AuthResponseDto login(AuthRequestDto authRequestDto) {
-        Optional<User> userOptional = userDao.findByUsername(authRequestDto.getUsername());
+        // Per-account throttle; per-IP limits are applied by RateLimitFilter
+        rateLimitRegistry.checkUsername(authRequestDto.getUsername());
+
+        // Sign-up and verification are anonymous and never pin a replica, so read credentials from the primary
+        Optional<User> userOptional = userDao.findByUsernameForLogin(authRequestDto.getUsername());
         if (userOptional.isEmpty()) {
             throw new InvalidCredentialsException("Provided Credentials are invalid");
         }
@@ -58,17 +85,16 @@ public class SubjectAuthServiceImpl implements AuthService {
             throw new InvalidCredentialsException("Please verify your email address before logging in.");
         }
         
-        if (!passwordEncoder.matches(authRequestDto.getPassword(), user.getPassword())) {
-            // Increment failed attempts
-            user.incrementFailedAttempts();
-            userDao.save(user);
+        boolean passwordMatches = passwordVerifyTimer.record(
+                () -> passwordEncoder.matches(authRequestDto.getPassword(), user.getPassword()));
+        if (!passwordMatches) {
+            // Counted in memory; only the lock transition touches the users row
+            loginActivityService.recordFailure(user.getId());
             throw new InvalidCredentialsException("Provided Credentials are invalid");
         }
         
-        // Successful login - reset failed attempts and update last login
-        user.resetFailedAttempts();
-        user.updateLastLogin();
-        userDao.save(user);
+        // Successful login - last login is stamped by the next batched flush
+        loginActivityService.recordSuccess(user.getId(), user.getFailedLoginAttempts());
 
         // Enforce concurrent session control
         List<Session> activeSessions = sessionDao.findByUsername(user.getUsername());
@@ -78,7 +104,7 @@ public class SubjectAuthServiceImpl implements AuthService {
                     .ifPresent(sessionDao::delete);
         }
         
-        String token = JwtTokenUtil.generateToken(user.getUsername());
+        String token = jwtTokenUtil.generateToken(user.getUsername());
         Session session = new Session();
         session.setToken(token);
         session.setUsername(user.getUsername());
@@ -93,8 +119,8 @@ public class SubjectAuthServiceImpl implements AuthService {
 
     @Override
     public AuthResponseDto signUp(AuthRequestDto authRequestDto) {
-        Optional<User> existingUser = userDao.findByUsername(authRequestDto.getUsername());
-        if (existingUser.isPresent()) {
+        // One projection query covers both unique keys
+        if (!userDao.findIdentitiesByUsernameOrEmail(authRequestDto.getUsername(), authRequestDto.getEmail()).isEmpty()) {
             throw new UserAlreadyExistsException("User exists");
         }
         
@@ -109,10 +135,16 @@ public class SubjectAuthServiceImpl implements AuthService {
                 .email(authRequestDto.getEmail())
                 .role(authRequestDto.getRole() != null ? Role.valueOf(authRequestDto.getRole()) : Role.CUSTOMER)
                 .build();
-        userDao.save(newUser);
+        try {
+            userDao.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // Concurrent sign-up with the same username or email; the unique index decides
+            throw new UserAlreadyExistsException("User exists");
+        }
+        availabilityIndexService.recordUser(newUser.getUsername(), newUser.getEmail());
 
         // Generate token for immediate login after signup
-        String token = JwtTokenUtil.generateToken(newUser.getUsername());
+        String token = jwtTokenUtil.generateToken(newUser.getUsername());
         Session session = new Session();
         session.setToken(token);
         session.setUsername(newUser.getUsername());
@@ -177,7 +209,7 @@ public class SubjectAuthServiceImpl implements AuthService {
 
     @Override
     public void validateToken(String token) {
-        JwtTokenUtil.validateToken(token);
+        jwtTokenUtil.validateToken(token);
     }
 
     @Override
@@ -200,6 +232,8 @@ public class SubjectAuthServiceImpl implements AuthService {
         // Update other fields
         if (authRequestDto.getEmail() != null && !authRequestDto.getEmail().trim().isEmpty()) {
             user.setEmail(authRequestDto.getEmail());
+            availabilityIndexService.recordEmail(authRequestDto.getEmail());
+            availabilityIndexService.recordRemoval();
         }
         
         if (authRequestDto.getRole() != null && !authRequestDto.getRole().trim().isEmpty()) {
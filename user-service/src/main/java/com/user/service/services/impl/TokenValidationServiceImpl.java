@@ -0,0 +1,183 @@
+package com.user.service.services.impl;
+
+import com.user.service.dao.UserDao;
+import com.user.service.dto.response.TokenValidationBatchResponseDto;
+import com.user.service.dto.response.TokenValidationBatchResponseDto.TokenResult;
+import com.user.service.error.ValidationException;
+import com.user.service.repository.projection.UserRoleView;
+import com.user.service.services.TokenValidationService;
+import com.user.service.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of TokenValidationService
+ * Signatures are checked in chunks on a dedicated pool sized to the cores; roles for all subjects come from one query
+ */
+@Service
+@Slf4j
+public class TokenValidationServiceImpl implements TokenValidationService {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    private UserDao userDao;
+
+    @Value("${app.auth.validate-batch.max-tokens:500}")
+    private int maxTokens;
+
+    @Value("${app.auth.validate-batch.chunk-size:64}")
+    private int chunkSize;
+
+    @Value("${app.auth.validate-batch.threads:0}")
+    private int threads;
+
+    private ExecutorService verifyExecutor;
+
+    @PostConstruct
+    void startVerifyExecutor() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("token-validate-");
+        threadFactory.setDaemon(true);
+        verifyExecutor = Executors.newFixedThreadPool(poolSize, threadFactory);
+    }
+
+    @PreDestroy
+    void stopVerifyExecutor() {
+        verifyExecutor.shutdown();
+    }
+
+    @Override
+    public TokenValidationBatchResponseDto validateBatch(List<String> tokens) {
+        if (tokens.size() > maxTokens) {
+            throw new ValidationException(List.of("tokens must contain at most " + maxTokens + " entries"));
+        }
+        long startedAt = System.nanoTime();
+
+        TokenResult[] results = verifySignatures(tokens);
+        resolveSubjects(results);
+
+        int validCount = (int) Arrays.stream(results).filter(TokenResult::isValid).count();
+        return TokenValidationBatchResponseDto.builder()
+                .totalCount(results.length)
+                .validCount(validCount)
+                .durationMillis((System.nanoTime() - startedAt) / 1_000_000)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    // Private helper methods
+
+    private TokenResult[] verifySignatures(List<String> tokens) {
+        TokenResult[] results = new TokenResult[tokens.size()];
+        if (tokens.size() <= chunkSize) {
+            // Small batches are cheaper on the request thread than a hand-off
+            verifyRange(tokens, results, 0, tokens.size());
+            return results;
+        }
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int from = 0; from < tokens.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, tokens.size());
+            chunks.add(verifyExecutor.submit(() -> verifyRange(tokens, results, start, end)));
+        }
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new IllegalStateException("Interrupted while validating tokens", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Token validation failed", e.getCause());
+        }
+        // Future.get orders every chunk's writes before the reads below
+        return results;
+    }
+
+    private void verifyRange(List<String> tokens, TokenResult[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = verify(i, tokens.get(i));
+        }
+    }
+
+    private TokenResult verify(int index, String token) {
+        TokenResult.TokenResultBuilder result = TokenResult.builder().index(index);
+        if (!StringUtils.hasText(token)) {
+            return result.error("Token is required").build();
+        }
+        String jwt = token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
+        try {
+            Claims claims = jwtTokenUtil.getClaimsFromToken(jwt).getPayload();
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return result.error("Token has no subject or expiry").build();
+            }
+            return result.valid(true)
+                    .subject(claims.getSubject())
+                    .expiresAt(claims.getExpiration().toInstant())
+                    .build();
+        } catch (ExpiredJwtException e) {
+            return result.subject(e.getClaims().getSubject())
+                    .expiresAt(e.getClaims().getExpiration().toInstant())
+                    .error("Token has expired")
+                    .build();
+        } catch (JwtException | IllegalArgumentException e) {
+            return result.error("Token is malformed or its signature is invalid").build();
+        }
+    }
+
+    private void resolveSubjects(TokenResult[] results) {
+        Set<String> subjects = new LinkedHashSet<>();
+        for (TokenResult result : results) {
+            if (result.isValid()) {
+                subjects.add(result.getSubject());
+            }
+        }
+        if (subjects.isEmpty()) {
+            return;
+        }
+        Map<String, UserRoleView> users = userDao.findRolesByUsernameIn(subjects).stream()
+                .collect(Collectors.toMap(UserRoleView::getUsername, Function.identity(), (first, second) -> first));
+        for (TokenResult result : results) {
+            if (!result.isValid()) {
+                continue;
+            }
+            UserRoleView user = users.get(result.getSubject());
+            if (user == null) {
+                result.setValid(false);
+                result.setError("Token subject is not a known user");
+            } else if (Boolean.TRUE.equals(user.getAccountLocked())) {
+                result.setValid(false);
+                result.setError("Account is locked");
+            } else {
+                result.setRoles(List.of(user.getRole().getName()));
+            }
+        }
+    }
+}
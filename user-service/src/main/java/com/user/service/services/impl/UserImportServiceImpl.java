@@ -0,0 +1,473 @@
+package com.user.service.services.impl;
+
+import com.user.service.dao.UserBatchDao;
+import com.user.service.dao.UserDao;
+import com.user.service.dto.request.UserRegistrationRequestDto;
+import com.user.service.dto.response.BulkImportResponseDto;
+import com.user.service.dto.response.BulkImportResponseDto.RowError;
+import com.user.service.entity.Role;
+import com.user.service.entity.EmailOutbox.EmailType;
+import com.user.service.entity.User;
+import com.user.service.entity.VerificationToken;
+import com.user.service.entity.VerificationToken.TokenType;
+import com.user.service.error.ValidationException;
+import com.user.service.services.AvailabilityIndexService;
+import com.user.service.services.EmailOutboxService;
+import com.user.service.services.UserImportService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Implementation of UserImportService for bulk registrations
+ * Each chunk of rows costs two IN lookups, parallel BCrypt hashing and two JDBC batches
+ */
+@Service
+@Slf4j
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("username", "email", "password");
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private UserBatchDao userBatchDao;
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private AvailabilityIndexService availabilityIndexService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.registration.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.registration.import.max-rows:100000}")
+    private int maxRows;
+
+    @Value("${app.registration.import.hashing-threads:0}")
+    private int hashingThreads;
+
+    @Value("${app.email.verification.expiry-hours:24}")
+    private int verificationExpiryHours;
+
+    private ExecutorService hashingExecutor;
+
+    @PostConstruct
+    void startHashingExecutor() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("user-import-hash-");
+        threadFactory.setDaemon(true);
+        hashingExecutor = Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    @PreDestroy
+    void stopHashingExecutor() {
+        hashingExecutor.shutdown();
+    }
+
+    @Override
+    public BulkImportResponseDto importUsers(InputStream csv, boolean sendVerificationEmails) throws IOException {
+        long startedAt = System.nanoTime();
+        ImportState state = new ImportState();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readHeader(reader);
+            List<ImportRow> chunk = new ArrayList<>(batchSize);
+            long lineNumber = 1;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!StringUtils.hasText(line)) {
+                    continue;
+                }
+                if (state.totalRows >= maxRows) {
+                    state.errors.add(RowError.builder()
+                            .lineNumber(lineNumber)
+                            .messages(List.of("Row limit of " + maxRows + " exceeded; remaining rows were not processed"))
+                            .build());
+                    break;
+                }
+                state.totalRows++;
+                chunk.add(toImportRow(lineNumber, parseCsvLine(line), columns));
+
+                if (chunk.size() >= batchSize) {
+                    processChunk(chunk, state, sendVerificationEmails);
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, state, sendVerificationEmails);
+            }
+        }
+
+        long durationMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        double rowsPerSecond = durationMillis > 0 ? state.importedCount * 1000.0 / durationMillis : state.importedCount;
+        log.info("Bulk import finished: {} rows, {} imported, {} failed in {} ms ({} rows/s)",
+                state.totalRows, state.importedCount, state.errors.size(), durationMillis,
+                String.format("%.1f", rowsPerSecond));
+
+        return BulkImportResponseDto.builder()
+                .totalRows(state.totalRows)
+                .importedCount(state.importedCount)
+                .failedCount(state.totalRows - state.importedCount)
+                .durationMillis(durationMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .errors(state.errors)
+                .build();
+    }
+
+    // Chunk processing
+
+    private void processChunk(List<ImportRow> chunk, ImportState state, boolean sendVerificationEmails) {
+        List<ImportRow> candidates = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            List<String> problems = validate(row);
+            if (problems.isEmpty()) {
+                problems = claimKeysWithinFile(row, state);
+            }
+            if (problems.isEmpty()) {
+                candidates.add(row);
+            } else {
+                state.errors.add(toRowError(row, problems));
+            }
+        }
+
+        candidates = rejectExistingUsers(candidates, state);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<User> users = hashAndBuildUsers(candidates);
+        List<VerificationToken> tokens = buildVerificationTokens(users);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userBatchDao.insertUsers(users);
+                userBatchDao.insertVerificationTokens(tokens);
+                if (sendVerificationEmails) {
+                    queueVerificationEmails(tokens);
+                }
+            });
+            state.importedCount += users.size();
+            users.forEach(user -> availabilityIndexService.recordUser(user.getUsername(), user.getEmail()));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent registration claimed one of the keys after our IN check; isolate the offending rows
+            log.warn("Batch insert hit a unique constraint, retrying {} rows individually", users.size());
+            insertIndividually(candidates, users, tokens, state, sendVerificationEmails);
+        }
+    }
+
+    private List<String> validate(ImportRow row) {
+        if (row.parseError != null) {
+            return List.of(row.parseError);
+        }
+        Set<ConstraintViolation<UserRegistrationRequestDto>> violations = validator.validate(row.request);
+        List<String> problems = new ArrayList<>(violations.size());
+        for (ConstraintViolation<UserRegistrationRequestDto> violation : violations) {
+            problems.add(String.format("%s: %s", violation.getPropertyPath(), violation.getMessage()));
+        }
+        return problems;
+    }
+
+    private List<String> claimKeysWithinFile(ImportRow row, ImportState state) {
+        List<String> problems = new ArrayList<>(2);
+        String username = row.request.getUsername().toLowerCase(Locale.ROOT);
+        String email = row.request.getEmail().toLowerCase(Locale.ROOT);
+        if (state.seenUsernames.contains(username)) {
+            problems.add("Username appears more than once in the import file");
+        }
+        if (state.seenEmails.contains(email)) {
+            problems.add("Email appears more than once in the import file");
+        }
+        if (problems.isEmpty()) {
+            state.seenUsernames.add(username);
+            state.seenEmails.add(email);
+        }
+        return problems;
+    }
+
+    private List<ImportRow> rejectExistingUsers(List<ImportRow> candidates, ImportState state) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        List<String> usernames = new ArrayList<>(candidates.size());
+        List<String> emails = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            usernames.add(row.request.getUsername());
+            emails.add(row.request.getEmail());
+        }
+        Set<String> takenUsernames = lowerCased(userDao.findExistingUsernames(usernames));
+        Set<String> takenEmails = lowerCased(userDao.findExistingEmails(emails));
+        if (takenUsernames.isEmpty() && takenEmails.isEmpty()) {
+            return candidates;
+        }
+
+        List<ImportRow> accepted = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            List<String> problems = new ArrayList<>(2);
+            if (takenEmails.contains(row.request.getEmail().toLowerCase(Locale.ROOT))) {
+                problems.add("Email is already registered");
+            }
+            if (takenUsernames.contains(row.request.getUsername().toLowerCase(Locale.ROOT))) {
+                problems.add("Username is already taken");
+            }
+            if (problems.isEmpty()) {
+                accepted.add(row);
+            } else {
+                state.errors.add(toRowError(row, problems));
+            }
+        }
+        return accepted;
+    }
+
+    private List<User> hashAndBuildUsers(List<ImportRow> rows) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            String rawPassword = row.request.getPassword();
+            hashes.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), hashingExecutor));
+        }
+
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            UserRegistrationRequestDto request = rows.get(i).request;
+            users.add(User.builder()
+                    .username(request.getUsername())
+                    .email(request.getEmail())
+                    .password(hashes.get(i).join())
+                    .firstName(request.getFirstName())
+                    .lastName(request.getLastName())
+                    .phone(request.getPhone())
+                    .role(request.getRole())
+                    .emailVerified(false)
+                    .accountLocked(true) // Account locked until email verification
+                    .failedLoginAttempts(0)
+                    .build());
+        }
+        return users;
+    }
+
+    private List<VerificationToken> buildVerificationTokens(List<User> users) {
+        LocalDateTime expiryDate = LocalDateTime.now().plusHours(verificationExpiryHours);
+        List<VerificationToken> tokens = new ArrayList<>(users.size());
+        for (User user : users) {
+            tokens.add(VerificationToken.builder()
+                    .token(UUID.randomUUID().toString())
+                    .user(user)
+                    .tokenType(TokenType.EMAIL_VERIFICATION)
+                    .expiryDate(expiryDate)
+                    .used(false)
+                    .build());
+        }
+        return tokens;
+    }
+
+    private void insertIndividually(List<ImportRow> rows, List<User> users, List<VerificationToken> tokens,
+                                    ImportState state, boolean sendVerificationEmails) {
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            VerificationToken token = tokens.get(i);
+            user.setId(null);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    userBatchDao.insertUsers(List.of(user));
+                    userBatchDao.insertVerificationTokens(List.of(token));
+                    if (sendVerificationEmails) {
+                        queueVerificationEmails(List.of(token));
+                    }
+                });
+                state.importedCount++;
+                availabilityIndexService.recordUser(user.getUsername(), user.getEmail());
+            } catch (DataIntegrityViolationException e) {
+                state.errors.add(toRowError(rows.get(i), List.of("Username or email is already registered")));
+            }
+        }
+    }
+
+    private void queueVerificationEmails(List<VerificationToken> tokens) {
+        List<User> users = new ArrayList<>(tokens.size());
+        List<String> values = new ArrayList<>(tokens.size());
+        for (VerificationToken token : tokens) {
+            users.add(token.getUser());
+            values.add(token.getToken());
+        }
+        emailOutboxService.enqueueAll(EmailType.EMAIL_VERIFICATION, users, values);
+    }
+
+    // CSV parsing
+
+    private Map<String, Integer> readHeader(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new ValidationException("Import file is empty");
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = parseCsvLine(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                missing.add("Missing required column: " + required);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new ValidationException("Invalid import file header", missing);
+        }
+        return columns;
+    }
+
+    private ImportRow toImportRow(long lineNumber, List<String> values, Map<String, Integer> columns) {
+        String roleValue = column(values, columns, "role");
+        Role role = Role.CUSTOMER;
+        String parseError = null;
+        if (roleValue != null) {
+            try {
+                role = Role.valueOf(roleValue.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                parseError = "role: Unknown role '" + roleValue + "'";
+            }
+        }
+
+        String password = column(values, columns, "password");
+        UserRegistrationRequestDto request = UserRegistrationRequestDto.builder()
+                .username(column(values, columns, "username"))
+                .email(column(values, columns, "email"))
+                .password(password)
+                .confirmPassword(password)
+                .firstName(column(values, columns, "firstname"))
+                .lastName(column(values, columns, "lastname"))
+                .phone(column(values, columns, "phone"))
+                .role(role)
+                .acceptTerms(true)
+                .acceptPrivacyPolicy(true)
+                .build();
+        return new ImportRow(lineNumber, request, parseError);
+    }
+
+    private static String column(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Split a single CSV line, honouring double-quoted fields and "" escapes.
+     * Quoted fields may not span lines.
+     */
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    inQuotes = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    // Helpers
+
+    private static Set<String> lowerCased(List<String> values) {
+        Set<String> result = new HashSet<>(values.size() * 2);
+        for (String value : values) {
+            result.add(value.toLowerCase(Locale.ROOT));
+        }
+        return result;
+    }
+
+    private static RowError toRowError(ImportRow row, List<String> messages) {
+        return RowError.builder()
+                .lineNumber(row.lineNumber)
+                .username(row.request.getUsername())
+                .email(row.request.getEmail())
+                .messages(messages)
+                .build();
+    }
+
+    private static final class ImportRow {
+        private final long lineNumber;
+        private final UserRegistrationRequestDto request;
+        private final String parseError;
+
+        private ImportRow(long lineNumber, UserRegistrationRequestDto request, String parseError) {
+            this.lineNumber = lineNumber;
+            this.request = request;
+            this.parseError = parseError;
+        }
+    }
+
+    private static final class ImportState {
+        private int totalRows;
+        private int importedCount;
+        private final List<RowError> errors = new ArrayList<>();
+        private final Set<String> seenUsernames = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+    }
+}
@@ -4,19 +4,34 @@ import com.user.service.dao.UserDao;
 import com.user.service.dto.request.AddressRequestDto;
 import com.user.service.dto.request.UserProfileRequestDto;
 import com.user.service.dto.response.AddressResponseDto;
+import com.user.service.dto.response.UserAccountResponseDto;
+import com.user.service.dto.response.UserAccountResponseDto.Part;
+import com.user.service.dto.response.UserBatchLookupResponseDto;
+import com.user.service.dto.response.UserBatchLookupResponseDto.UserSummary;
 import com.user.service.dto.response.UserResponseDto;
 import com.user.service.entity.Address;
 import com.user.service.entity.Role;
 import com.user.service.entity.User;
 import com.user.service.error.UserNotFoundException;
+import com.user.service.error.ValidationException;
 import com.user.service.repository.AddressRepository;
+import com.user.service.repository.projection.UserAddressView;
+import com.user.service.repository.projection.UserSummaryView;
+import com.user.service.services.AvailabilityIndexService;
+import com.user.service.services.LoginActivityService;
 import com.user.service.services.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,6 +39,7 @@ import com.user.service.controller.AdminController.AdminStatsResponse;
 
 /**
  * Implementation of UserService for user profile management
+ * Reads run in read-only transactions (flush mode MANUAL) and map to DTOs before the connection is released
  */
 @Service
 @Slf4j
@@ -35,8 +51,21 @@ public class UserServiceImpl implements UserService {
     
     @Autowired
     private AddressRepository addressRepository;
+
+    @Autowired
+    private AvailabilityIndexService availabilityIndexService;
+
+    @Autowired
+    private LoginActivityService loginActivityService;
+
+    @Value("${app.users.batch-lookup.max-ids:1000}")
+    private int batchLookupMaxIds;
+
+    @Value("${app.users.batch-lookup.chunk-size:500}")
+    private int batchLookupChunkSize;
     
     @Override
+    @Transactional(readOnly = true)
     public UserResponseDto getUserProfile(Long userId) {
         log.debug("Getting user profile for user ID: {}", userId);
         
@@ -61,6 +90,8 @@ public class UserServiceImpl implements UserService {
             // TODO: Add email verification logic for email changes
             user.setEmail(requestDto.getEmail());
             user.setEmailVerified(false);
+            availabilityIndexService.recordEmail(requestDto.getEmail());
+            availabilityIndexService.recordRemoval();
         }
         if (requestDto.getPhone() != null) {
             user.setPhone(requestDto.getPhone());
@@ -74,6 +105,7 @@ public class UserServiceImpl implements UserService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<AddressResponseDto> getUserAddresses(Long userId) {
         log.debug("Getting addresses for user ID: {}", userId);
         
@@ -87,6 +119,7 @@ public class UserServiceImpl implements UserService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public AddressResponseDto getAddress(Long userId, Long addressId) {
         log.debug("Getting address ID: {} for user ID: {}", addressId, userId);
         
@@ -157,7 +190,7 @@ public class UserServiceImpl implements UserService {
         
         // Handle default address logic
         if (requestDto.getIsDefault() != null && requestDto.getIsDefault()) {
-            addressRepository.resetDefaultFlagsByUserId(userId);
+            addressRepository.resetOtherDefaultFlags(userId, addressId);
             address.setIsDefault(true);
         }
         
@@ -182,18 +215,12 @@ public class UserServiceImpl implements UserService {
     public AddressResponseDto setDefaultAddress(Long userId, Long addressId) {
         log.debug("Setting default address ID: {} for user ID: {}", addressId, userId);
         
+        // Reset the other default flags for this user in one statement; rolled back if the address is not theirs
+        addressRepository.resetOtherDefaultFlags(userId, addressId);
+        
         Address address = addressRepository.findByUserIdAndId(userId, addressId)
                 .orElseThrow(() -> new UserNotFoundException("Address not found or access denied"));
         
-        // Reset all default flags for this user by fetching and updating each address
-        List<Address> userAddresses = addressRepository.findByUserIdOrderByIsDefaultDescCreatedAtDesc(userId);
-        for (Address userAddress : userAddresses) {
-            if (userAddress.getIsDefault()) {
-                userAddress.setIsDefault(false);
-                addressRepository.save(userAddress);
-            }
-        }
-        
         // Set this address as default
         address.setIsDefault(true);
         Address savedAddress = addressRepository.save(address);
@@ -203,6 +230,7 @@ public class UserServiceImpl implements UserService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public AddressResponseDto getDefaultAddress(Long userId) {
         log.debug("Getting default address for user ID: {}", userId);
         
@@ -213,12 +241,50 @@ public class UserServiceImpl implements UserService {
     }
     
     @Override
+    @Transactional(readOnly = true)
+    public UserAccountResponseDto getUserAccount(Long userId, Set<Part> parts) {
+        log.debug("Getting account parts {} for user ID: {}", parts, userId);
+
+        UserAccountResponseDto.UserAccountResponseDtoBuilder account = UserAccountResponseDto.builder();
+        if (!parts.contains(Part.ADDRESSES) && !parts.contains(Part.DEFAULT_ADDRESS)) {
+            // Profile only: a primary-key load the second-level cache can answer
+            return account.profile(mapToUserResponseDto(getUserById(userId))).build();
+        }
+
+        // User and addresses in one statement instead of one per endpoint
+        List<UserAddressView> rows = addressRepository.findUserWithAddresses(userId);
+        if (rows.isEmpty()) {
+            throw new UserNotFoundException("User not found with ID: " + userId);
+        }
+        List<AddressResponseDto> addresses = rows.stream()
+                .map(UserAddressView::getAddress)
+                .filter(Objects::nonNull)
+                .map(this::mapToAddressResponseDto)
+                .toList();
+
+        if (parts.contains(Part.PROFILE)) {
+            account.profile(mapToUserResponseDto(rows.get(0).getUser()));
+        }
+        if (parts.contains(Part.ADDRESSES)) {
+            account.addresses(addresses);
+        }
+        if (parts.contains(Part.DEFAULT_ADDRESS) && !addresses.isEmpty()
+                && Boolean.TRUE.equals(addresses.get(0).getIsDefault())) {
+            // Ordered default first, so only the first row can be it
+            account.defaultAddress(addresses.get(0));
+        }
+        return account.build();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
     public User getUserById(Long userId) {
         return userDao.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
     }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean isUserActive(Long userId) {
         try {
             User user = getUserById(userId);
@@ -227,10 +293,58 @@ public class UserServiceImpl implements UserService {
             return false;
         }
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserBatchLookupResponseDto getUserSummaries(List<Long> userIds, boolean useCache) {
+        if (userIds.size() > batchLookupMaxIds) {
+            throw new ValidationException(List.of("userIds must contain at most " + batchLookupMaxIds + " entries"));
+        }
+        List<Long> distinctIds = userIds.stream().distinct().toList();
+        Map<Long, UserSummary> found = new HashMap<>();
+
+        if (useCache) {
+            for (User user : userDao.findCachedByIds(distinctIds)) {
+                found.put(user.getId(), mapToUserSummary(user));
+            }
+        }
+        int cacheHits = found.size();
+        List<Long> uncachedIds = cacheHits == 0 ? distinctIds
+                : distinctIds.stream().filter(id -> !found.containsKey(id)).toList();
+
+        // Chunks keep each IN list under the database's parameter limits
+        for (int from = 0; from < uncachedIds.size(); from += batchLookupChunkSize) {
+            List<Long> chunk = uncachedIds.subList(from, Math.min(from + batchLookupChunkSize, uncachedIds.size()));
+            for (UserSummaryView view : userDao.findSummariesByIdIn(chunk)) {
+                found.put(view.getId(), mapToUserSummary(view));
+            }
+        }
+
+        List<UserSummary> users = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            UserSummary summary = found.get(id);
+            if (summary != null) {
+                users.add(summary);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        log.debug("Batch lookup of {} user IDs: {} found, {} from cache, {} missing",
+                distinctIds.size(), users.size(), cacheHits, missingIds.size());
+        return UserBatchLookupResponseDto.builder()
+                .requestedCount(distinctIds.size())
+                .foundCount(users.size())
+                .cacheHits(cacheHits)
+                .users(users)
+                .missingIds(missingIds)
+                .build();
+    }
     
     // Admin methods for role-based access control
     
     @Override
+    @Transactional(readOnly = true)
     public Page<UserResponseDto> getAllUsers(Pageable pageable) {
         log.debug("Getting all users with pagination: {}", pageable);
         
@@ -239,6 +353,7 @@ public class UserServiceImpl implements UserService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<UserResponseDto> getUsersByRole(Role role) {
         log.debug("Getting users by role: {}", role);
         
@@ -268,6 +383,7 @@ public class UserServiceImpl implements UserService {
         user.setAccountLocked(false);
         user.setFailedLoginAttempts(0);
         userDao.save(user);
+        loginActivityService.clearFailures(userId);
         
         log.info("User account unlocked successfully: {}", userId);
         return mapToUserResponseDto(user);
@@ -291,11 +407,13 @@ public class UserServiceImpl implements UserService {
         
         User user = getUserById(userId);
         userDao.delete(user);
+        availabilityIndexService.recordRemoval();
         
         log.info("User account deleted successfully: {}", userId);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public AdminStatsResponse getSystemStatistics() {
         log.debug("Getting system statistics");
         
@@ -311,6 +429,26 @@ public class UserServiceImpl implements UserService {
     }
     
     // Private helper methods
+
+    private UserSummary mapToUserSummary(User user) {
+        return UserSummary.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .build();
+    }
+
+    private UserSummary mapToUserSummary(UserSummaryView view) {
+        return UserSummary.builder()
+                .id(view.getId())
+                .username(view.getUsername())
+                .email(view.getEmail())
+                .firstName(view.getFirstName())
+                .lastName(view.getLastName())
+                .build();
+    }
     
     private UserResponseDto mapToUserResponseDto(User user) {
         return UserResponseDto.builder()
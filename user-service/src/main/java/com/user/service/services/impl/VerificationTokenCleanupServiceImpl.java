@@ -0,0 +1,70 @@
+package com.user.service.services.impl;
+
+import com.user.service.repository.VerificationTokenRepository;
+import com.user.service.services.VerificationTokenCleanupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Implementation of VerificationTokenCleanupService
+ * Deletes by primary key in small batches, each its own transaction, so the janitor never holds
+ * long locks on verification_tokens while registrations and verifications run
+ */
+@Service
+@Slf4j
+public class VerificationTokenCleanupServiceImpl implements VerificationTokenCleanupService {
+
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+
+    @Value("${app.email.verification.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.email.verification.cleanup.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.email.verification.cleanup.expired-grace-hours:24}")
+    private long expiredGraceHours;
+
+    @Value("${app.email.verification.cleanup.used-retention-hours:24}")
+    private long usedRetentionHours;
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.email.verification.cleanup.interval-ms:900000}",
+            initialDelayString = "${app.email.verification.cleanup.interval-ms:900000}")
+    public int purgeTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        // Expired tokens are kept for a grace period so a late click still gets "expired" rather than "invalid"
+        int expired = purge(ids -> verificationTokenRepository.findExpiredIds(now.minusHours(expiredGraceHours), ids));
+        int used = purge(ids -> verificationTokenRepository.findUsedIds(now.minusHours(usedRetentionHours), ids));
+        if (expired + used > 0) {
+            log.info("Purged {} expired and {} used verification tokens", expired, used);
+        }
+        return expired + used;
+    }
+
+    // Private helper methods
+
+    private int purge(Function<PageRequest, List<Long>> findIds) {
+        int deleted = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> ids = findIds.apply(PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += verificationTokenRepository.deleteByIds(ids);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+}
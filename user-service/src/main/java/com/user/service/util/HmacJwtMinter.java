@@ -0,0 +1,228 @@
+package com.user.service.util;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * Allocation-light HS256 encoder for session JWTs carrying a kid header and sub, iat and exp claims
+ * Output is byte-identical to the JJWT builder: same member order, Jackson string escaping and unpadded base64url.
+ * The encoded header is computed once per key; JSON, token bytes and the Mac are reused per thread.
+ */
+public final class HmacJwtMinter {
+
+    private static final byte[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SUB = "{\"sub\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IAT = "\",\"iat\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IAT_WITHOUT_SUB = "{\"iat\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EXP = ",\"exp\":".getBytes(StandardCharsets.US_ASCII);
+    private static final int SIGNATURE_LENGTH = 32;
+
+    private final String keyId;
+    private final byte[] encodedHeader;
+    private final ThreadLocal<Buffers> buffers;
+
+    public HmacJwtMinter(String keyId, SecretKey key) {
+        this.keyId = keyId;
+        Buffers scratch = new Buffers(newMac(key));
+        int length = writeHeaderJson(scratch, keyId);
+        this.encodedHeader = new byte[base64Length(length)];
+        base64Url(scratch.json, 0, length, encodedHeader, 0);
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(newMac(key)));
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    /**
+     * Encodes and signs a token; timestamps are epoch seconds, as JJWT writes them
+     */
+    public String mint(String subject, long issuedAtSeconds, long expiresAtSeconds) {
+        Buffers local = buffers.get();
+        int jsonLength = writeClaimsJson(local, subject, issuedAtSeconds, expiresAtSeconds);
+
+        int signatureOffset = encodedHeader.length + 1 + base64Length(jsonLength);
+        byte[] out = local.out(signatureOffset + 1 + base64Length(SIGNATURE_LENGTH));
+        System.arraycopy(encodedHeader, 0, out, 0, encodedHeader.length);
+        out[encodedHeader.length] = '.';
+        base64Url(local.json, 0, jsonLength, out, encodedHeader.length + 1);
+
+        try {
+            local.mac.update(out, 0, signatureOffset);
+            local.mac.doFinal(local.signature, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("HS256 signature buffer too small", e);
+        }
+        out[signatureOffset] = '.';
+        int end = base64Url(local.signature, 0, SIGNATURE_LENGTH, out, signatureOffset + 1);
+        // Every byte is base64url or '.', so the Latin-1 string is built without decoding
+        return new String(out, 0, end, StandardCharsets.ISO_8859_1);
+    }
+
+    // Private helper methods
+
+    private static int writeHeaderJson(Buffers local, String keyId) {
+        byte[] json = local.json(keyId.length() * 6 + 32);
+        int pos = put(json, 0, "{\"kid\":\"".getBytes(StandardCharsets.US_ASCII));
+        pos = putEscaped(json, pos, keyId);
+        return put(json, pos, "\",\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static int writeClaimsJson(Buffers local, String subject, long issuedAt, long expiresAt) {
+        byte[] json = local.json((subject == null ? 0 : subject.length() * 6) + 64);
+        int pos;
+        if (subject != null) {
+            pos = put(json, 0, SUB);
+            pos = putEscaped(json, pos, subject);
+            pos = put(json, pos, IAT);
+        } else {
+            pos = put(json, 0, IAT_WITHOUT_SUB);
+        }
+        pos = putLong(json, pos, issuedAt);
+        pos = put(json, pos, EXP);
+        pos = putLong(json, pos, expiresAt);
+        json[pos++] = '}';
+        return pos;
+    }
+
+    private static int put(byte[] target, int pos, byte[] bytes) {
+        System.arraycopy(bytes, 0, target, pos, bytes.length);
+        return pos + bytes.length;
+    }
+
+    private static int putLong(byte[] target, int pos, long value) {
+        if (value < 0) {
+            target[pos++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            target[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+
+    private static int putEscaped(byte[] target, int pos, String value) {
+        // Mirrors Jackson's default escaping: short escapes, six-character escapes for other controls and every surrogate
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    target[pos++] = '\\';
+                }
+                target[pos++] = (byte) c;
+            } else if (c < 0x20) {
+                pos = putControl(target, pos, c);
+            } else if (c < 0x800) {
+                target[pos++] = (byte) (0xC0 | (c >> 6));
+                target[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                pos = putUnicodeEscape(target, pos, c);
+            } else {
+                target[pos++] = (byte) (0xE0 | (c >> 12));
+                target[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                target[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return pos;
+    }
+
+    private static int putControl(byte[] target, int pos, char c) {
+        byte shortForm = switch (c) {
+            case '\b' -> 'b';
+            case '\t' -> 't';
+            case '\n' -> 'n';
+            case '\f' -> 'f';
+            case '\r' -> 'r';
+            default -> 0;
+        };
+        if (shortForm == 0) {
+            return putUnicodeEscape(target, pos, c);
+        }
+        target[pos++] = '\\';
+        target[pos++] = shortForm;
+        return pos;
+    }
+
+    private static int putUnicodeEscape(byte[] target, int pos, char c) {
+        target[pos++] = '\\';
+        target[pos++] = 'u';
+        target[pos++] = HEX[(c >> 12) & 0xF];
+        target[pos++] = HEX[(c >> 8) & 0xF];
+        target[pos++] = HEX[(c >> 4) & 0xF];
+        target[pos++] = HEX[c & 0xF];
+        return pos;
+    }
+
+    private static int base64Length(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    private static int base64Url(byte[] source, int offset, int length, byte[] target, int pos) {
+        int end = offset + length;
+        int i = offset;
+        for (; i + 2 < end; i += 3) {
+            int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8 | (source[i + 2] & 0xFF);
+            target[pos++] = BASE64_URL[bits >>> 18];
+            target[pos++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            target[pos++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            target[pos++] = BASE64_URL[bits & 0x3F];
+        }
+        int remaining = end - i;
+        if (remaining == 1) {
+            int bits = (source[i] & 0xFF) << 16;
+            target[pos++] = BASE64_URL[bits >>> 18];
+            target[pos++] = BASE64_URL[(bits >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8;
+            target[pos++] = BASE64_URL[bits >>> 18];
+            target[pos++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            target[pos++] = BASE64_URL[(bits >>> 6) & 0x3F];
+        }
+        return pos;
+    }
+
+    private static Mac newMac(SecretKey key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static final class Buffers {
+        private final Mac mac;
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private byte[] json = new byte[256];
+        private byte[] out = new byte[512];
+
+        Buffers(Mac mac) {
+            this.mac = mac;
+        }
+
+        byte[] json(int capacity) {
+            if (json.length < capacity) {
+                json = new byte[Math.max(capacity, json.length * 2)];
+            }
+            return json;
+        }
+
+        byte[] out(int capacity) {
+            if (out.length < capacity) {
+                out = new byte[Math.max(capacity, out.length * 2)];
+            }
+            return out;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.user.service.util;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.Objects;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.stereotype.Component;
+
+import com.user.service.error.InvalidCredentialsException;
+import com.user.service.security.keys.JwkKeyring;
+import com.user.service.security.keys.JwkKeyring.SessionSigningKey;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+
+@Component
+public class JwtTokenUtil {
+    // Token expiration time in milliseconds (1 hour in this example)
+    private static final long EXPIRATION_TIME = 3600000;
+    // typ header marking session JWTs signed with the shared OAuth2 key, which access tokens never carry
+    private static final String SESSION_TOKEN_TYPE = "session+jwt";
+    private static final String[] ACCESS_TOKEN_CLAIMS = {"scope", "aud", "client_id"};
+
+    private final JwkKeyring keyring;
+    private final JwtParser parser;
+    private volatile HmacJwtMinter minter;
+
+    public JwtTokenUtil(JwkKeyring keyring) {
+        this.keyring = keyring;
+        // The kid header selects the verification key, so tokens signed before a rotation or algorithm switch keep verifying
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keyring.getSessionVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    // Generate a JWT token
+    public String generateToken(String subject) {
+        long now = System.currentTimeMillis();
+        SessionSigningKey signingKey = keyring.getSessionSigningKey();
+        if (signingKey.key() instanceof SecretKey) {
+            // JWT timestamps are whole seconds, as the JJWT builder writes them
+            return hmacMinter(signingKey).mint(subject, now / 1000, (now + EXPIRATION_TIME) / 1000);
+        }
+        return Jwts.builder()
+                .header().keyId(signingKey.keyId()).type(SESSION_TOKEN_TYPE).and()
+                .subject(subject)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + EXPIRATION_TIME))
+                // RS256 or ES256 when session tokens share the OAuth2 signing key
+                .signWith(signingKey.key())
+                .compact();
+    }
+
+    // Validate a JWT token
+    public boolean validateToken(String token) throws InvalidCredentialsException {
+    
+        try {
+            Objects.requireNonNull(token, "Token is required");
+            Jws<Claims> claims = getClaimsFromToken(token);
+            Claims payload = claims.getPayload();
+            return isValidToken(payload) && !isTokenExpired(payload) 
+            && isUserIdPresent(payload);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private HmacJwtMinter hmacMinter(SessionSigningKey signingKey) {
+        HmacJwtMinter current = minter;
+        // Rebuilt only when the keyring rotates to another HMAC key
+        if (current == null || !current.getKeyId().equals(signingKey.keyId())) {
+            current = new HmacJwtMinter(signingKey.keyId(), (SecretKey) signingKey.key());
+            minter = current;
+        }
+        return current;
+    }
+
+    // Tokens verified with an asymmetric key must be marked as session tokens and carry no OAuth2 claims
+    private static boolean isSessionToken(Jws<Claims> claims) {
+        for (String claim : ACCESS_TOKEN_CLAIMS) {
+            if (claims.getPayload().containsKey(claim)) {
+                return false;
+            }
+        }
+        return claims.getHeader().getAlgorithm().startsWith("HS")
+                || SESSION_TOKEN_TYPE.equals(claims.getHeader().getType());
+    }
+
+    private static boolean isValidToken(Claims payload) {
+        return payload != null;
+    }
+
+    private static boolean isTokenExpired(Claims payload) {
+        return payload.getExpiration().before(new Date());
+    }   
+
+    private static boolean isUserIdPresent(Claims payload) {
+        return Objects.nonNull(payload.getSubject());
+    }
+
+    // Get the subject (usually user ID) from a valid token
+    public String getSubjectFromToken(String token) {
+        return getClaimsFromToken(token).getPayload().getSubject();
+    }
+
+    public Jws<Claims> getClaimsFromToken(String token) {
+        Jws<Claims> claims = parser.parseSignedClaims(token);
+        if (!isSessionToken(claims)) {
+            throw new UnsupportedJwtException("Token is not a session token");
+        }
+        return claims;
+    }
+}
@@ -0,0 +1,142 @@
+package com.user.service.util.template;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Template parsed once into literal and variable segments
+ * {{name}} renders an HTML-escaped value, {{&name}} renders the value as-is
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final String name;
+    private final Segment[] segments;
+    private final Set<String> variables;
+    private final int literalLength;
+
+    private CompiledTemplate(String name, Segment[] segments, Set<String> variables, int literalLength) {
+        this.name = name;
+        this.segments = segments;
+        this.variables = variables;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Parses template source into segments
+     * @throws IllegalArgumentException if a tag is unclosed or has no variable name
+     */
+    public static CompiledTemplate compile(String name, String source) {
+        List<Segment> segments = new ArrayList<>();
+        Set<String> variables = new LinkedHashSet<>();
+        int literalLength = 0;
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed tag in template " + name + " at offset " + open);
+            }
+            if (open > position) {
+                segments.add(new Segment(source.substring(position, open), null, false));
+                literalLength += open - position;
+            }
+            String tag = source.substring(open + OPEN.length(), close).trim();
+            boolean raw = tag.startsWith("&");
+            String variable = raw ? tag.substring(1).trim() : tag;
+            if (variable.isEmpty()) {
+                throw new IllegalArgumentException("Empty tag in template " + name + " at offset " + open);
+            }
+            segments.add(new Segment(null, variable, !raw));
+            variables.add(variable);
+            position = close + CLOSE.length();
+        }
+        if (position < source.length()) {
+            segments.add(new Segment(source.substring(position), null, false));
+            literalLength += source.length() - position;
+        }
+        return new CompiledTemplate(name, segments.toArray(new Segment[0]), Set.copyOf(variables), literalLength);
+    }
+
+    /**
+     * Renders the template into a per-thread buffer and returns the result
+     * Missing or null values render as an empty string
+     */
+    public String render(Map<String, ?> model) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        renderTo(model, buffer);
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            // Don't pin an oversized buffer to the thread after one unusually large render
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    /**
+     * Appends the rendered template to the given builder
+     */
+    public void renderTo(Map<String, ?> model, StringBuilder out) {
+        out.ensureCapacity(out.length() + literalLength + 256);
+        for (Segment segment : segments) {
+            if (segment.literal() != null) {
+                out.append(segment.literal());
+                continue;
+            }
+            Object value = model.get(segment.variable());
+            if (value == null) {
+                continue;
+            }
+            if (segment.escape()) {
+                escapeHtml(value.toString(), out);
+            } else {
+                out.append(value);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Set<String> getVariables() {
+        return variables;
+    }
+
+    /**
+     * Appends text with the HTML special characters &amp; &lt; &gt; &quot; and &#39; escaped
+     */
+    static void escapeHtml(String text, StringBuilder out) {
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            String replacement = switch (text.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null) {
+                out.append(text, start, i).append(replacement);
+                start = i + 1;
+            }
+        }
+        out.append(text, start, text.length());
+    }
+
+    private record Segment(String literal, String variable, boolean escape) {
+    }
+}
@@ -142,10 +142,43 @@ CREATE TABLE IF NOT EXISTS verification_tokens (
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
 );
 
+-- Transactional outbox for emails queued by registration flows
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email_type VARCHAR(50) NOT NULL,
+    user_id BIGINT NOT NULL,
+    token VARCHAR(255),
+    campaign_id BIGINT,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    claim_token VARCHAR(36),
+    claimed_at TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Bulk email campaigns; last_user_id is the keyset checkpoint used to resume
+CREATE TABLE IF NOT EXISTS email_campaigns (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email_type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    last_user_id BIGINT NOT NULL DEFAULT 0,
+    users_queued BIGINT NOT NULL DEFAULT 0,
+    started_by VARCHAR(50),
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
 -- Indexes for better performance
 CREATE INDEX IF NOT EXISTS idx_users_email ON users(email);
 CREATE INDEX IF NOT EXISTS idx_users_username ON users(username);
 CREATE INDEX IF NOT EXISTS idx_users_role ON users(role);
+CREATE INDEX IF NOT EXISTS idx_user_email_verified ON users(email_verified, id);
 CREATE INDEX IF NOT EXISTS idx_client_client_id ON client(client_id);
 CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_client_id ON oauth2_authorization(registered_client_id);
 CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_principal ON oauth2_authorization(principal_name);
@@ -157,4 +190,9 @@ CREATE INDEX IF NOT EXISTS idx_address_user_id ON user_addresses(user_id);
 CREATE INDEX IF NOT EXISTS idx_address_default ON user_addresses(user_id, is_default);
 CREATE INDEX IF NOT EXISTS idx_verification_token ON verification_tokens(token);
 CREATE INDEX IF NOT EXISTS idx_verification_user_id ON verification_tokens(user_id);
+CREATE INDEX IF NOT EXISTS idx_verification_used ON verification_tokens(used, created_at);
 CREATE INDEX IF NOT EXISTS idx_verification_expiry ON verification_tokens(expiry_date);
+CREATE INDEX IF NOT EXISTS idx_email_outbox_ready ON email_outbox(status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_email_outbox_claim ON email_outbox(claim_token);
+CREATE INDEX IF NOT EXISTS idx_email_outbox_campaign ON email_outbox(campaign_id, status);
+CREATE INDEX IF NOT EXISTS idx_email_campaigns_status ON email_campaigns(status);
@@ -4,13 +4,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.user.service.dto.request.AddressRequestDto;
 import com.user.service.dto.request.UserProfileRequestDto;
 import com.user.service.dto.response.AddressResponseDto;
+import com.user.service.dto.response.UserAccountResponseDto;
+import com.user.service.dto.response.UserAccountResponseDto.Part;
 import com.user.service.dto.response.UserResponseDto;
 import com.user.service.entity.Address;
 import com.user.service.entity.Role;
 import com.user.service.entity.User;
+import com.user.service.error.UserNotFoundException;
 import com.user.service.repository.AddressRepository;
 import com.user.service.repository.UserRepository;
 import com.user.service.services.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,7 +33,9 @@ import org.springframework.web.context.WebApplicationContext;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -55,6 +64,12 @@ public class UserProfileManagementTest {
     
     @Autowired
     private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
     
     private MockMvc mockMvc;
     
@@ -312,6 +327,150 @@ public class UserProfileManagementTest {
                 .andExpect(jsonPath("$.isDefault").value(true));
     }
     
+    // Account Page Tests
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetUserAccountReturnsProfileAndOrderedAddresses() throws Exception {
+        addressRepository.save(Address.builder()
+                .user(testUser)
+                .addressLine1("456 Work Avenue")
+                .city("Work City")
+                .state("Work State")
+                .postalCode("67890")
+                .country("Test Country")
+                .isDefault(false)
+                .label("Work")
+                .build());
+
+        mockMvc.perform(get("/users/{userId}/account", testUser.getId())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.profile.username").value("testuser"))
+                .andExpect(jsonPath("$.addresses.length()").value(2))
+                .andExpect(jsonPath("$.addresses[0].id").value(testAddress.getId()))
+                .andExpect(jsonPath("$.addresses[1].label").value("Work"))
+                .andExpect(jsonPath("$.defaultAddress.id").value(testAddress.getId()));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetUserAccountWithFieldSelection() throws Exception {
+        mockMvc.perform(get("/users/{userId}/account", testUser.getId())
+                        .param("fields", "defaultAddress"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.profile").doesNotExist())
+                .andExpect(jsonPath("$.addresses").doesNotExist())
+                .andExpect(jsonPath("$.defaultAddress.label").value("Home"));
+
+        mockMvc.perform(get("/users/{userId}/account", testUser.getId())
+                        .param("fields", "profile,avatar"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testUserAccountIsReadWithOneStatement() {
+        User noAddresses = userRepository.save(User.builder()
+                .username("noaddress")
+                .email("noaddress@example.com")
+                .password("password123")
+                .role(Role.CUSTOMER)
+                .build());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        UserAccountResponseDto account = userService.getUserAccount(testUser.getId(), EnumSet.allOf(Part.class));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("testuser", account.getProfile().getUsername());
+        assertEquals(testAddress.getId(), account.getDefaultAddress().getId());
+
+        UserAccountResponseDto empty = userService.getUserAccount(noAddresses.getId(), EnumSet.allOf(Part.class));
+        assertEquals("noaddress", empty.getProfile().getUsername());
+        assertTrue(empty.getAddresses().isEmpty());
+        assertNull(empty.getDefaultAddress());
+        assertThrows(UserNotFoundException.class,
+                () -> userService.getUserAccount(-1L, EnumSet.of(Part.ADDRESSES)));
+    }
+
+    // Conditional GET Tests
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testProfileETagShortCircuitsUnchangedReads() throws Exception {
+        String eTag = mockMvc.perform(get("/users/{userId}/profile", testUser.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        mockMvc.perform(get("/users/{userId}/profile", testUser.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues("ETag", eTag))
+                .andExpect(content().string(""));
+        // Only the version query ran
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        userService.updateUserProfile(testUser.getId(), UserProfileRequestDto.builder().firstName("Changed").build());
+        entityManager.flush();
+
+        mockMvc.perform(get("/users/{userId}/profile", testUser.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.firstName").value("Changed"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testAddressETagsChangeWhenTheDefaultMoves() throws Exception {
+        Address work = addressRepository.save(Address.builder()
+                .user(testUser)
+                .addressLine1("456 Work Avenue")
+                .city("Work City")
+                .state("Work State")
+                .postalCode("67890")
+                .country("Test Country")
+                .isDefault(false)
+                .label("Work")
+                .build());
+        entityManager.flush();
+
+        String listTag = mockMvc.perform(get("/users/{userId}/addresses", testUser.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        String homeTag = mockMvc.perform(get("/users/{userId}/addresses/{addressId}", testUser.getId(), testAddress.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/users/{userId}/addresses", testUser.getId()).header("If-None-Match", listTag))
+                .andExpect(status().isNotModified());
+
+        userService.setDefaultAddress(testUser.getId(), work.getId());
+        entityManager.flush();
+
+        mockMvc.perform(get("/users/{userId}/addresses", testUser.getId()).header("If-None-Match", listTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(work.getId()));
+        // The old default only lost its flag through a bulk update, which must still bump its version
+        mockMvc.perform(get("/users/{userId}/addresses/{addressId}", testUser.getId(), testAddress.getId())
+                        .header("If-None-Match", homeTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isDefault").value(false));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testConditionalGetOfMissingUserIsNotFound() throws Exception {
+        mockMvc.perform(get("/users/{userId}/profile", -1L).header("If-None-Match", "\"anything\""))
+                .andExpect(status().isNotFound());
+    }
+
     // Security Tests
     
     @Test
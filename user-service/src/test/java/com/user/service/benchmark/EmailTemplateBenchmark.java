@@ -0,0 +1,87 @@
+package com.user.service.benchmark;
+
+import com.user.service.util.template.CompiledTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the compiled verification email template with the String.format version it replaced
+ * Run with -prof gc to compare allocation per message: java -cp <test classpath> org.openjdk.jmh.Main EmailTemplateBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailTemplateBenchmark {
+
+    private static final String NAME = "Ada";
+    private static final String URL = "http://localhost:8080/auth/verify?token=3f6c1d2e-8a4b-4c5d-9e0f-112233445566";
+    private static final int EXPIRY_HOURS = 24;
+
+    private CompiledTemplate compiled;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/templates/email/email-verification.html")) {
+            compiled = CompiledTemplate.compile("email-verification", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return compiled.render(Map.of("name", NAME, "verificationUrl", URL, "expiryHours", EXPIRY_HOURS));
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format("""
+            <!DOCTYPE html>
+            <html>
+            <head>
+                <meta charset="UTF-8">
+                <title>Verify Your Email</title>
+            </head>
+            <body>
+                <div style="max-width: 600px; margin: 0 auto; padding: 20px; font-family: Arial, sans-serif;">
+                    <h2 style="color: #333;">Hello %s!</h2>
+                    <p>Thank you for registering with our ecommerce platform. To complete your registration, please verify your email address by clicking the button below:</p>
+
+                    <div style="text-align: center; margin: 30px 0;">
+                        <a href="%s" style="background-color: #007bff; color: white; padding: 12px 24px; text-decoration: none; border-radius: 5px; display: inline-block;">
+                            Verify Email Address
+                        </a>
+                    </div>
+
+                    <p>If the button doesn't work, you can copy and paste this link into your browser:</p>
+                    <p style="word-break: break-all; color: #666;">%s</p>
+
+                    <p>This verification link will expire in %d hours.</p>
+
+                    <p>If you didn't create an account, you can safely ignore this email.</p>
+
+                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #eee;">
+                    <p style="color: #666; font-size: 12px;">
+                        This is an automated email. Please do not reply to this message.
+                    </p>
+                </div>
+            </body>
+            </html>
+            """, NAME, URL, URL, EXPIRY_HOURS);
+    }
+}
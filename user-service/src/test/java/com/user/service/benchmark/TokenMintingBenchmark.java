@@ -0,0 +1,77 @@
+package com.user.service.benchmark;
+
+import com.user.service.util.HmacJwtMinter;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for session token minting: JJWT builder against HmacJwtMinter
+ * Add -prof gc to compare allocation per token
+ * Run from the test classpath after mvn test-compile: java -cp <test classpath> org.openjdk.jmh.Main TokenMintingBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenMintingBenchmark {
+
+    private static final String KEY_ID = "6f1c2a9e-0b7d-4f55-9d8e-3c2b1a0f9e8d";
+    private static final String SUBJECT = "product_service_user";
+
+    private SecretKey key;
+    private HmacJwtMinter minter;
+
+    @Setup
+    public void setUp() {
+        key = Jwts.SIG.HS256.key().build();
+        minter = new HmacJwtMinter(KEY_ID, key);
+    }
+
+    @Benchmark
+    public String jjwtBuilder() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .header().keyId(KEY_ID).and()
+                .subject(SUBJECT)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + 3_600_000))
+                .signWith(key)
+                .compact();
+    }
+
+    @Benchmark
+    public String minter() {
+        long now = System.currentTimeMillis() / 1000;
+        return minter.mint(SUBJECT, now, now + 3600);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String minterContended() {
+        long now = System.currentTimeMillis() / 1000;
+        return minter.mint(SUBJECT, now, now + 3600);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TokenMintingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.user.service.benchmark;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
+import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
+import com.nimbusds.jose.jwk.AsymmetricJWK;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetSequenceKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for JWT sign and verify throughput per keyring algorithm
+ * Uses the same Nimbus signers as the authorization server's JwtEncoder and JwtDecoder
+ * Run from the test classpath after mvn test-compile: java -cp <test classpath> org.openjdk.jmh.Main TokenSigningBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenSigningBenchmark {
+
+    @Param({"RS256", "ES256", "HS256"})
+    public String algorithm;
+
+    private JWSHeader header;
+    private JWTClaimsSet claims;
+    private JWSSigner signer;
+    private JWSVerifier verifier;
+    private String token;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        JWSAlgorithm jwsAlgorithm = JWSAlgorithm.parse(algorithm);
+        JWK key = switch (algorithm) {
+            case "RS256" -> new RSAKeyGenerator(2048).keyID("rsa").generate();
+            case "ES256" -> new ECKeyGenerator(Curve.P_256).keyID("ec").generate();
+            default -> new OctetSequenceKeyGenerator(256).keyID("hmac").generate();
+        };
+        header = new JWSHeader.Builder(jwsAlgorithm).keyID(key.getKeyID()).build();
+        claims = new JWTClaimsSet.Builder()
+                .subject("product-service")
+                .issuer("http://localhost:8081")
+                .audience("product-service")
+                .claim("scope", List.of("user.read", "user.validate"))
+                .issueTime(new Date())
+                .expirationTime(new Date(System.currentTimeMillis() + 300_000))
+                .build();
+        signer = new DefaultJWSSignerFactory().createJWSSigner(key, jwsAlgorithm);
+        verifier = key instanceof AsymmetricJWK asymmetric
+                ? new DefaultJWSVerifierFactory().createJWSVerifier(header, asymmetric.toPublicKey())
+                : new DefaultJWSVerifierFactory().createJWSVerifier(header, ((OctetSequenceKey) key).toSecretKey());
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() throws JOSEException {
+        SignedJWT jwt = new SignedJWT(header, claims);
+        jwt.sign(signer);
+        return jwt.serialize();
+    }
+
+    @Benchmark
+    public boolean verify() throws JOSEException, ParseException {
+        return SignedJWT.parse(token).verify(verifier);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TokenSigningBenchmark.class.getSimpleName()).build()).run();
+    }
+}
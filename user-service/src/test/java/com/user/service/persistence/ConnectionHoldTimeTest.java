@@ -0,0 +1,172 @@
+package com.user.service.persistence;
+
+import com.user.service.entity.Address;
+import com.user.service.entity.Role;
+import com.user.service.entity.User;
+import com.user.service.repository.AddressRepository;
+import com.user.service.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for connection hold time on read paths
+ * A filter that stalls after the controller stands in for slow response rendering; with open-in-view
+ * the connection is held through it, without it the connection is back in the pool first
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ConnectionHoldTimeTest {
+
+    private static final String PREFIX = "holdtime_";
+    private static final int THREADS = 4;
+    private static final int REQUESTS_PER_THREAD = 20;
+    private static final long RENDER_DELAY_MS = 50;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username(PREFIX + "user")
+                .email(PREFIX + "user@example.com")
+                .password("encodedPassword")
+                .role(Role.CUSTOMER)
+                .emailVerified(true)
+                .accountLocked(false)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            addressRepository.save(Address.builder()
+                    .user(user)
+                    .addressLine1(i + " Hold Street")
+                    .city("Test City")
+                    .state("Test State")
+                    .postalCode("12345")
+                    .country("Test Country")
+                    .isDefault(i == 0)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM user_addresses WHERE user_id IN (SELECT id FROM users WHERE username LIKE ?)", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void testOpenInViewIsDisabled() {
+        assertTrue(webApplicationContext.getBeansOfType(OpenEntityManagerInViewInterceptor.class).isEmpty());
+    }
+
+    @Test
+    void testConnectionIsReleasedBeforeResponseRendering() throws Exception {
+        MockMvc withoutOpenInViewMvc = mockMvc(false);
+        // First round only warms up the request path
+        meanHoldMillis(withoutOpenInViewMvc);
+        double withoutOpenInView = meanHoldMillis(withoutOpenInViewMvc);
+        double withOpenInView = meanHoldMillis(mockMvc(true));
+
+        // Absolute hold times vary with CPU contention; the rendering stall is what open-in-view adds
+        assertTrue(withOpenInView >= RENDER_DELAY_MS);
+        assertTrue(withOpenInView - withoutOpenInView >= RENDER_DELAY_MS / 2.0);
+    }
+
+    private double meanHoldMillis(MockMvc mockMvc) throws Exception {
+        Timer usage = meterRegistry.get("hikaricp.connections.usage").timer();
+        long countBefore = usage.count();
+        double totalBefore = usage.totalTime(TimeUnit.MILLISECONDS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        mockMvc.perform(get("/users/{userId}/addresses", user.getId())
+                                        .with(user("admin").roles("ADMIN")))
+                                .andExpect(status().isOk());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long borrows = usage.count() - countBefore;
+        assertTrue(borrows >= THREADS * REQUESTS_PER_THREAD);
+        return (usage.totalTime(TimeUnit.MILLISECONDS) - totalBefore) / (THREADS * REQUESTS_PER_THREAD);
+    }
+
+    private MockMvc mockMvc(boolean openInView) {
+        DefaultMockMvcBuilder builder = MockMvcBuilders.webAppContextSetup(webApplicationContext);
+        if (openInView) {
+            builder.addFilters(new OpenEntityManagerInViewFilter() {
+                @Override
+                protected EntityManagerFactory lookupEntityManagerFactory() {
+                    return entityManagerFactory;
+                }
+            });
+        }
+        Filter slowRendering = (request, response, chain) -> {
+            chain.doFilter(request, response);
+            try {
+                Thread.sleep(RENDER_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        return builder.addFilters(slowRendering)
+                .apply(springSecurity())
+                .build();
+    }
+}
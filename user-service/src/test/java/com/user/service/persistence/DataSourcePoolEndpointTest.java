@@ -0,0 +1,70 @@
+package com.user.service.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the connection pool actuator endpoint
+ * Covers the reported pool state, startup warm-up and admin-only access
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DataSourcePoolEndpointTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testAdminSeesWarmedUpPool() throws Exception {
+        mockMvc.perform(get("/actuator/datasource"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$['user-service-pool'].poolName").value("user-service-pool"))
+                .andExpect(jsonPath("$['user-service-pool'].maximumPoolSize").value(10))
+                .andExpect(jsonPath("$['user-service-pool'].totalConnections", greaterThanOrEqualTo(10)))
+                .andExpect(jsonPath("$['user-service-pool'].pendingThreads").value(0))
+                .andExpect(jsonPath("$['user-service-pool'].acquireCount", greaterThanOrEqualTo(10)));
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void testNonAdminCannotReadPoolStats() throws Exception {
+        mockMvc.perform(get("/actuator/datasource"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testAnonymousCannotReadPoolStats() throws Exception {
+        mockMvc.perform(get("/actuator/datasource"))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void testHealthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+}
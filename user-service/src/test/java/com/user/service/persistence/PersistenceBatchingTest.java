@@ -0,0 +1,291 @@
+package com.user.service.persistence;
+
+import com.user.service.dao.SessionDao;
+import com.user.service.dao.UserBatchDao;
+import com.user.service.entity.Address;
+import com.user.service.entity.Session;
+import com.user.service.entity.User;
+import com.user.service.repository.AddressRepository;
+import com.user.service.repository.UserRepository;
+import com.user.service.services.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for JDBC batching and statement counts on write paths
+ * The DataSource is wrapped to count JDBC round trips: single executions and executeBatch calls
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PersistenceBatchingTest {
+
+    private static final int BULK_USERS = 10_000;
+    private static final String PREFIX = "batching_";
+
+    @Autowired
+    private StatementCounter counter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserBatchDao userBatchDao;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private SessionDao sessionDao;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM user_addresses WHERE user_id IN (SELECT id FROM users WHERE username LIKE ?)", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE ?", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM sessions WHERE username LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void testBulkInsertRoundTripsAndThroughput() {
+        List<User> viaJpa = users("jpa", BULK_USERS);
+        counter.reset();
+        transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(viaJpa));
+        long jpaRoundTrips = counter.roundTrips();
+
+        List<User> viaBatch = users("jdbc", BULK_USERS);
+        counter.reset();
+        transactionTemplate.executeWithoutResult(status -> userBatchDao.insertUsers(viaBatch));
+        long batchRoundTrips = counter.roundTrips();
+
+        // IDENTITY needs each generated key back, so Hibernate cannot batch these inserts
+        assertTrue(jpaRoundTrips >= BULK_USERS);
+        assertEquals(1, batchRoundTrips);
+        assertTrue(viaBatch.stream().allMatch(user -> user.getId() != null));
+    }
+
+    @Test
+    void testFlushBatchesUpdates() {
+        List<User> created = users("update", 120);
+        transactionTemplate.executeWithoutResult(status -> userBatchDao.insertUsers(created));
+        List<Long> ids = created.stream().map(User::getId).toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<User> loaded = userRepository.findAllById(ids);
+            counter.reset();
+            loaded.forEach(user -> user.setPhone("+1234567890"));
+            entityManager.flush();
+        });
+
+        // 120 updates at hibernate.jdbc.batch_size=50
+        assertEquals(3, counter.batches.get());
+        assertEquals(0, counter.statements.get());
+    }
+
+    @Test
+    void testSetDefaultAddressDoesNotLoadOtherAddresses() {
+        long fewAddresses = setDefaultAddressRoundTrips(3, 2);
+        long manyAddresses = setDefaultAddressRoundTrips(30, 29);
+
+        assertEquals(fewAddresses, manyAddresses);
+        // Load the target, bulk-reset the others, update the target
+        assertEquals(3, manyAddresses);
+    }
+
+    @Test
+    void testSetDefaultAddressOnCurrentDefaultKeepsIt() {
+        setDefaultAddressRoundTrips(3, 0);
+    }
+
+    @Test
+    void testNewSessionIsInsertedWithoutSelect() {
+        Session session = new Session();
+        session.setSessionId(UUID.randomUUID().toString());
+        session.setUsername(PREFIX + "session");
+        session.setToken("token");
+
+        counter.reset();
+        sessionDao.save(session);
+
+        assertEquals(0, counter.queries.get());
+        assertEquals(1, counter.roundTrips());
+        assertFalse(session.isNew());
+    }
+
+    private long setDefaultAddressRoundTrips(int addresses, int newDefault) {
+        User user = userRepository.save(users("address_" + addresses, 1).get(0));
+        List<Address> saved = new ArrayList<>();
+        for (int i = 0; i < addresses; i++) {
+            saved.add(addressRepository.save(Address.builder()
+                    .user(user)
+                    .addressLine1(i + " Main Street")
+                    .city("Springfield")
+                    .state("IL")
+                    .postalCode("62701")
+                    .country("USA")
+                    .isDefault(i == 0)
+                    .build()));
+        }
+
+        counter.reset();
+        userService.setDefaultAddress(user.getId(), saved.get(newDefault).getId());
+        long roundTrips = counter.roundTrips();
+        assertEquals(1, counter.queries.get());
+
+        List<Long> defaults = addressRepository.findByUserIdOrderByIsDefaultDescCreatedAtDesc(user.getId()).stream()
+                .filter(Address::getIsDefault)
+                .map(Address::getId)
+                .toList();
+        assertEquals(List.of(saved.get(newDefault).getId()), defaults);
+        return roundTrips;
+    }
+
+    private static List<User> users(String group, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String username = PREFIX + group + "_" + i;
+            users.add(User.builder()
+                    .username(username)
+                    .email(username + "@example.com")
+                    .password("encodedPassword")
+                    .build());
+        }
+        return users;
+    }
+
+    /**
+     * Counts JDBC executions on every statement handed out by the application DataSource
+     */
+    static class StatementCounter {
+        final AtomicLong queries = new AtomicLong();
+        final AtomicLong statements = new AtomicLong();
+        final AtomicLong batches = new AtomicLong();
+
+        void reset() {
+            queries.set(0);
+            statements.set(0);
+            batches.set(0);
+        }
+
+        long roundTrips() {
+            return queries.get() + statements.get() + batches.get();
+        }
+
+        void record(String method) {
+            switch (method) {
+                case "executeQuery" -> queries.incrementAndGet();
+                case "execute", "executeUpdate", "executeLargeUpdate" -> statements.incrementAndGet();
+                case "executeBatch", "executeLargeBatch" -> batches.incrementAndGet();
+                default -> {
+                }
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+
+        @Bean
+        StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(ObjectProvider<StatementCounter> counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return countingConnection(super.getConnection(), counter.getObject());
+                        }
+
+                        @Override
+                        public Connection getConnection(String username, String password) throws SQLException {
+                            return countingConnection(super.getConnection(username, password), counter.getObject());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection countingConnection(Connection connection, StatementCounter counter) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof Statement statement) {
+                            return countingStatement(statement, counter);
+                        }
+                        return result;
+                    });
+        }
+
+        private static Statement countingStatement(Statement statement, StatementCounter counter) {
+            return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), jdbcInterfaces(statement),
+                    (proxy, method, args) -> {
+                        counter.record(method.getName());
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Class<?>[] jdbcInterfaces(Statement statement) {
+            // Keep PreparedStatement/CallableStatement visible so callers can still cast
+            List<Class<?>> interfaces = new ArrayList<>();
+            for (Class<?> type = statement.getClass(); type != null; type = type.getSuperclass()) {
+                for (Class<?> candidate : type.getInterfaces()) {
+                    if (candidate.getName().startsWith("java.sql.") && !interfaces.contains(candidate)) {
+                        interfaces.add(candidate);
+                    }
+                }
+            }
+            return interfaces.toArray(new Class<?>[0]);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.user.service.persistence;
+
+import com.user.service.conf.DataSourcePoolEndpoint;
+import com.user.service.dao.UserDao;
+import com.user.service.dto.request.AuthRequestDto;
+import com.user.service.dto.request.UserProfileRequestDto;
+import com.user.service.dto.request.UserRegistrationRequestDto;
+import com.user.service.dto.response.DataSourcePoolStatsDto;
+import com.user.service.entity.Role;
+import com.user.service.entity.User;
+import com.user.service.repository.UserRepository;
+import com.user.service.services.AuthService;
+import com.user.service.services.RegistrationService;
+import com.user.service.services.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for primary/replica routing
+ * Two in-memory H2 databases stand in for the primary and a lagging replica; replicate() copies the primary over
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.replica.hikari.minimum-idle=2",
+        "app.datasource.replica.pin-after-write-ms=60000"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    private static final String PREFIX = "replica_";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSourcePoolEndpoint dataSourcePoolEndpoint;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        user = userRepository.save(User.builder()
+                .username(PREFIX + "user")
+                .email(PREFIX + "user@example.com")
+                .password("encodedPassword")
+                .firstName("Original")
+                .role(Role.CUSTOMER)
+                .emailVerified(true)
+                .accountLocked(false)
+                .build());
+        replicate();
+        // Changes from here on have not reached the replica yet
+        primary.update("UPDATE users SET first_name = 'Lagging' WHERE id = ?", user.getId());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        primary.update("DELETE FROM email_outbox WHERE user_id IN (SELECT id FROM users WHERE username LIKE ?)", PREFIX + "%");
+        primary.update("DELETE FROM verification_tokens WHERE user_id IN (SELECT id FROM users WHERE username LIKE ?)", PREFIX + "%");
+        primary.update("DELETE FROM sessions WHERE username LIKE ?", PREFIX + "%");
+        primary.update("DELETE FROM users WHERE username LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void testReadOnlyTransactionsUseReplica() {
+        assertEquals("Original", userService.getUserProfile(user.getId()).getFirstName());
+        // Repository finders run in their own read-only transactions (the userDetailsService path)
+        assertEquals("Original", userDao.findByUsername(PREFIX + "user").orElseThrow().getFirstName());
+    }
+
+    @Test
+    void testReadWriteTransactionsUsePrimary() {
+        String firstName = transactionTemplate.execute(status ->
+                userDao.findById(user.getId()).orElseThrow().getFirstName());
+        assertEquals("Lagging", firstName);
+        assertEquals("Lagging", primary.queryForObject(
+                "SELECT first_name FROM users WHERE id = ?", String.class, user.getId()));
+    }
+
+    @Test
+    void testWriterIsPinnedToPrimaryAfterOwnWrite() {
+        authenticate("writer");
+        userService.updateUserProfile(user.getId(), UserProfileRequestDto.builder().firstName("Written").build());
+        assertEquals("Written", userService.getUserProfile(user.getId()).getFirstName());
+
+        // Other users keep reading from the replica
+        authenticate("reader");
+        assertEquals("Original", userService.getUserProfile(user.getId()).getFirstName());
+        SecurityContextHolder.clearContext();
+        assertEquals("Original", userService.getUserProfile(user.getId()).getFirstName());
+    }
+
+    @Test
+    void testAnonymousSignUpAndActivationAreVisibleToLogin() {
+        // Nothing is replicated after setUp, so the replica never sees the new account
+        assertEquals("SUCCESS", registrationService.registerUser(UserRegistrationRequestDto.builder()
+                .username(PREFIX + "signup")
+                .email(PREFIX + "signup@example.com")
+                .password("SecurePass123!")
+                .confirmPassword("SecurePass123!")
+                .acceptTerms(true)
+                .acceptPrivacyPolicy(true)
+                .build()).getStatus());
+        String token = primary.queryForObject("SELECT vt.token FROM verification_tokens vt "
+                + "JOIN users u ON u.id = vt.user_id WHERE u.username = ?", String.class, PREFIX + "signup");
+        assertTrue(registrationService.activateAccount(token));
+
+        AuthRequestDto login = new AuthRequestDto();
+        login.setUsername(PREFIX + "signup");
+        login.setPassword("SecurePass123!");
+        assertNotNull(authService.login(login));
+        assertEquals(0, replica.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username = ?", Integer.class, PREFIX + "signup"));
+    }
+
+    @Test
+    void testPoolEndpointReportsPrimaryAndReplicaPools() throws Exception {
+        Map<String, DataSourcePoolStatsDto> pools = dataSourcePoolEndpoint.pools();
+
+        assertEquals(Set.of("user-service-pool", "user-service-replica-pool"), pools.keySet());
+        assertEquals(2, pools.get("user-service-replica-pool").getMinimumIdle());
+    }
+
+    private void replicate() {
+        List<String> script = primary.queryForList("SCRIPT", String.class);
+        replica.execute("DROP ALL OBJECTS");
+        for (String statement : script) {
+            replica.execute(statement);
+        }
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(username, "password", "ROLE_ADMIN"));
+    }
+}
@@ -0,0 +1,187 @@
+package com.user.service.persistence;
+
+import com.user.service.conf.SecondLevelCacheEndpoint;
+import com.user.service.dao.UserDao;
+import com.user.service.dto.request.UserProfileRequestDto;
+import com.user.service.dto.response.SecondLevelCacheStatsDto;
+import com.user.service.entity.Role;
+import com.user.service.entity.User;
+import com.user.service.repository.UserRepository;
+import com.user.service.security.models.Client;
+import com.user.service.security.repositories.ClientRepository;
+import com.user.service.services.LoginActivityService;
+import com.user.service.services.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.NaturalIdStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the Hibernate second-level cache
+ * Checks that username and clientId lookups skip SQL once cached and that every write path invalidates
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=true")
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    private static final String PREFIX = "l2cache_";
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LoginActivityService loginActivityService;
+
+    @Autowired
+    private RegisteredClientRepository registeredClientRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private SecondLevelCacheEndpoint secondLevelCacheEndpoint;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(User.builder()
+                .username(PREFIX + "user")
+                .email(PREFIX + "user@example.com")
+                .password("encodedPassword")
+                .firstName("Cached")
+                .role(Role.CUSTOMER)
+                .emailVerified(true)
+                .accountLocked(false)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE ?", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM \"client\" WHERE client_id LIKE ?", PREFIX + "%");
+        // Rows were removed behind Hibernate's back
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void testUsernameLookupIsServedFromCache() {
+        userDao.findByUsername(PREFIX + "user").orElseThrow();
+        NaturalIdStatistics naturalIds = statistics.getNaturalIdStatistics(User.class.getName());
+        long queries = naturalIds.getExecutionCount();
+        long hits = naturalIds.getCacheHitCount();
+
+        User cached = userDao.findByUsername(PREFIX + "user").orElseThrow();
+
+        assertEquals(user.getId(), cached.getId());
+        assertEquals(queries, naturalIds.getExecutionCount());
+        assertEquals(hits + 1, naturalIds.getCacheHitCount());
+        assertTrue(userDao.findByUsername(PREFIX + "missing").isEmpty());
+    }
+
+    @Test
+    void testServiceUpdatesAndDeletesInvalidate() {
+        userDao.findByUsername(PREFIX + "user").orElseThrow();
+
+        userService.updateUserProfile(user.getId(), UserProfileRequestDto.builder().firstName("Updated").build());
+        assertEquals("Updated", userDao.findByUsername(PREFIX + "user").orElseThrow().getFirstName());
+
+        userService.lockUserAccount(user.getId());
+        assertTrue(userDao.findByUsername(PREFIX + "user").orElseThrow().getAccountLocked());
+
+        userService.deleteUserAccount(user.getId());
+        assertTrue(userDao.findByUsername(PREFIX + "user").isEmpty());
+    }
+
+    @Test
+    void testBulkAndJdbcUpdatesInvalidate() {
+        userDao.findByUsername(PREFIX + "user").orElseThrow();
+
+        // JPQL bulk update
+        userDao.lockAfterFailedLogins(user.getId(), 5);
+        User locked = userDao.findByUsername(PREFIX + "user").orElseThrow();
+        assertTrue(locked.getAccountLocked());
+        assertEquals(5, locked.getFailedLoginAttempts());
+
+        // Plain JDBC batch update
+        loginActivityService.recordSuccess(user.getId(), 0);
+        loginActivityService.flushLastLogins();
+        assertNotNull(userDao.findByUsername(PREFIX + "user").orElseThrow().getLastLogin());
+    }
+
+    @Test
+    void testClientLookupIsServedFromCacheAndInvalidated() {
+        String clientId = PREFIX + "client";
+        RegisteredClient registeredClient = registeredClient(UUID.randomUUID().toString(), clientId, "First name");
+        registeredClientRepository.save(registeredClient);
+
+        assertEquals("First name", registeredClientRepository.findByClientId(clientId).getClientName());
+        NaturalIdStatistics naturalIds = statistics.getNaturalIdStatistics(Client.class.getName());
+        long queries = naturalIds.getExecutionCount();
+        assertNotNull(registeredClientRepository.findByClientId(clientId));
+        assertEquals(queries, naturalIds.getExecutionCount());
+
+        // Re-registering overwrites the row (the bootstrap path)
+        registeredClientRepository.save(registeredClient(registeredClient.getId(), clientId, "Second name"));
+        assertEquals("Second name", registeredClientRepository.findByClientId(clientId).getClientName());
+
+        // Delete path used by ClientController
+        clientRepository.delete(clientRepository.findByClientId(clientId).orElseThrow());
+        assertNull(registeredClientRepository.findByClientId(clientId));
+    }
+
+    @Test
+    void testHitRatiosAreExposed() {
+        userDao.findByUsername(PREFIX + "user").orElseThrow();
+        userDao.findByUsername(PREFIX + "user").orElseThrow();
+
+        SecondLevelCacheStatsDto stats = secondLevelCacheEndpoint.cache();
+
+        assertTrue(stats.isEnabled());
+        assertTrue(stats.isStatisticsEnabled());
+        assertTrue(stats.getNaturalIdHitCount() > 0);
+        assertTrue(stats.getNaturalIdHitRatio() > 0);
+        assertTrue(stats.getRegions().stream().anyMatch(region -> region.getRegion().equals("users")));
+        assertTrue(stats.getRegions().stream().anyMatch(region -> region.getRegion().equals("users-by-username")));
+    }
+
+    private static RegisteredClient registeredClient(String id, String clientId, String clientName) {
+        return RegisteredClient.withId(id)
+                .clientId(clientId)
+                .clientSecret("{noop}secret")
+                .clientName(clientName)
+                .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .scope("read")
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.user.service.persistence;
+
+import com.user.service.dto.response.UserBatchLookupResponseDto;
+import com.user.service.dto.response.UserBatchLookupResponseDto.UserSummary;
+import com.user.service.entity.Role;
+import com.user.service.entity.User;
+import com.user.service.error.ValidationException;
+import com.user.service.repository.UserRepository;
+import com.user.service.services.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for batch user lookup
+ * Checks request ordering, missing-id reporting, chunked IN queries and second-level cache reads
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "app.users.batch-lookup.chunk-size=3"
+})
+@ActiveProfiles("test")
+class UserBatchLookupTest {
+
+    private static final String PREFIX = "batch_lookup_";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < 7; i++) {
+            ids.add(userRepository.save(User.builder()
+                    .username(PREFIX + i)
+                    .email(PREFIX + i + "@example.com")
+                    .password("encodedPassword")
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .role(Role.CUSTOMER)
+                    .build()).getId());
+        }
+        // Start every test with a cold cache
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE ?", PREFIX + "%");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testUsersFollowRequestOrderAndMissingIdsAreReported() {
+        List<Long> request = List.of(ids.get(4), -1L, ids.get(0), ids.get(6), ids.get(4), -2L, ids.get(2));
+
+        UserBatchLookupResponseDto response = userService.getUserSummaries(request, false);
+
+        assertEquals(6, response.getRequestedCount());
+        assertEquals(4, response.getFoundCount());
+        assertEquals(List.of(ids.get(4), ids.get(0), ids.get(6), ids.get(2)),
+                response.getUsers().stream().map(UserSummary::getId).toList());
+        assertEquals(List.of(-1L, -2L), response.getMissingIds());
+        UserSummary first = response.getUsers().get(0);
+        assertEquals(PREFIX + "4", first.getUsername());
+        assertEquals(PREFIX + "4@example.com", first.getEmail());
+        assertEquals("First4", first.getFirstName());
+        assertEquals("Last4", first.getLastName());
+    }
+
+    @Test
+    void testIdsAreResolvedInChunkedQueries() {
+        statistics.clear();
+
+        UserBatchLookupResponseDto response = userService.getUserSummaries(ids, false);
+
+        assertEquals(7, response.getFoundCount());
+        // 7 ids with chunk-size 3, and no entity loads
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testCachedUsersAreServedWithoutQueries() {
+        // Warm the cache for the first three users only
+        for (int i = 0; i < 3; i++) {
+            userService.getUserById(ids.get(i));
+        }
+        statistics.clear();
+
+        UserBatchLookupResponseDto response = userService.getUserSummaries(ids, true);
+
+        assertEquals(7, response.getFoundCount());
+        assertEquals(3, response.getCacheHits());
+        assertEquals(ids, response.getUsers().stream().map(UserSummary::getId).toList());
+        assertEquals(3, statistics.getSecondLevelCacheHitCount());
+        // The four uncached ids need two chunked queries
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testOversizedRequestIsRejected() {
+        List<Long> request = Collections.nCopies(1001, 1L);
+
+        ValidationException e = assertThrows(ValidationException.class,
+                () -> userService.getUserSummaries(request, false));
+        assertTrue(e.getValidationErrors().contains("userIds must contain at most 1000 entries"));
+    }
+}
@@ -0,0 +1,212 @@
+package com.user.service.registration;
+
+import com.user.service.dto.response.EmailCampaignResponseDto;
+import com.user.service.entity.EmailCampaign;
+import com.user.service.entity.EmailCampaign.Status;
+import com.user.service.entity.EmailOutbox;
+import com.user.service.entity.EmailOutbox.EmailType;
+import com.user.service.entity.User;
+import com.user.service.entity.VerificationToken;
+import com.user.service.repository.EmailCampaignRepository;
+import com.user.service.repository.EmailOutboxRepository;
+import com.user.service.repository.UserRepository;
+import com.user.service.repository.VerificationTokenRepository;
+import com.user.service.services.EmailCampaignService;
+import com.user.service.services.EmailOutboxService;
+import com.user.service.services.EmailService;
+import com.user.service.services.impl.EmailCampaignServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for bulk email campaigns
+ * Uses a small page size so a campaign spans several checkpointed pages
+ */
+@SpringBootTest(properties = "app.email.campaign.page-size=4")
+@ActiveProfiles("test")
+class EmailCampaignTest {
+
+    private static final int USERS = 10;
+
+    @MockBean
+    private EmailService emailService;
+
+    @Autowired
+    private EmailCampaignService emailCampaignService;
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailCampaignRepository emailCampaignRepository;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+
+    private final List<User> unverified = new ArrayList<>();
+    private User verified;
+
+    @BeforeEach
+    void createUsers() {
+        for (int i = 0; i < USERS; i++) {
+            unverified.add(userRepository.save(user("campaign_" + i, false)));
+        }
+        verified = userRepository.save(user("campaign_verified", true));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        emailOutboxRepository.deleteAll();
+        emailCampaignRepository.deleteAll();
+        List<User> users = new ArrayList<>(unverified);
+        users.add(verified);
+        for (User user : users) {
+            verificationTokenRepository.deleteAll(verificationTokenRepository.findByUserId(user.getId()));
+            userRepository.delete(user);
+        }
+    }
+
+    @Test
+    void testCampaignQueuesOneVerificationEmailPerUnverifiedUser() throws InterruptedException {
+        userRepository.findByUsername("campaign_0").ifPresent(user ->
+                verificationTokenRepository.save(VerificationToken.builder()
+                        .token("stale-campaign-token")
+                        .user(user)
+                        .expiryDate(LocalDateTime.now().plusHours(1))
+                        .build()));
+
+        EmailCampaignResponseDto started = emailCampaignService.startVerificationCampaign("admin");
+        EmailCampaignResponseDto finished = awaitFinished(started.getId());
+
+        assertEquals(Status.COMPLETED, finished.getStatus());
+        Map<Long, EmailOutbox> queued = campaignEntries(started.getId());
+        for (User user : unverified) {
+            EmailOutbox entry = queued.get(user.getId());
+            assertNotNull(entry, "No email queued for " + user.getUsername());
+            assertEquals(EmailType.EMAIL_VERIFICATION, entry.getEmailType());
+            List<VerificationToken> active = verificationTokenRepository.findByUserId(user.getId()).stream()
+                    .filter(token -> !token.getUsed())
+                    .toList();
+            assertEquals(1, active.size());
+            assertEquals(entry.getToken(), active.get(0).getToken());
+        }
+        assertFalse(queued.containsKey(verified.getId()));
+        assertTrue(verificationTokenRepository.findByToken("stale-campaign-token").orElseThrow().getUsed());
+
+        while (emailOutboxService.dispatchPending() > 0) {
+            // Drain everything the campaign queued
+        }
+        verify(emailService, atLeast(USERS)).sendEmailVerification(any(User.class), anyString());
+        EmailCampaignResponseDto delivered = emailCampaignService.getCampaign(started.getId());
+        assertEquals(0, delivered.getPending());
+        assertEquals(delivered.getUsersQueued(), delivered.getSent());
+    }
+
+    @Test
+    void testInterruptedCampaignResumesAfterCheckpoint() throws InterruptedException {
+        Long checkpoint = unverified.get(USERS / 2 - 1).getId();
+        EmailCampaign interrupted = emailCampaignRepository.save(EmailCampaign.builder()
+                .emailType(EmailType.EMAIL_VERIFICATION)
+                .status(Status.RUNNING)
+                .lastUserId(checkpoint)
+                .usersQueued((long) USERS / 2)
+                .build());
+
+        // What the application does on startup
+        ((EmailCampaignServiceImpl) emailCampaignService).resumeInterruptedCampaigns();
+        EmailCampaignResponseDto finished = awaitFinished(interrupted.getId());
+
+        assertEquals(Status.COMPLETED, finished.getStatus());
+        Set<Long> queuedUserIds = campaignEntries(interrupted.getId()).keySet();
+        for (User user : unverified) {
+            assertEquals(user.getId() > checkpoint, queuedUserIds.contains(user.getId()), user.getUsername());
+        }
+        assertTrue(finished.getUsersQueued() >= USERS);
+    }
+
+    @Test
+    void testCheckpointOnlyAdvancesFromTheCheckpointThePageWasReadAfter() {
+        Long first = unverified.get(3).getId();
+        Long second = unverified.get(7).getId();
+        EmailCampaign campaign = emailCampaignRepository.save(EmailCampaign.builder()
+                .emailType(EmailType.EMAIL_VERIFICATION)
+                .status(Status.RUNNING)
+                .build());
+        Long id = campaign.getId();
+
+        assertEquals(1, emailCampaignRepository.advanceCheckpoint(id, 0L, first, 4, Status.RUNNING, LocalDateTime.now()));
+        // A second runner that read the same first page loses
+        assertEquals(0, emailCampaignRepository.advanceCheckpoint(id, 0L, first, 4, Status.RUNNING, LocalDateTime.now()));
+        assertEquals(1, emailCampaignRepository.advanceCheckpoint(id, first, second, 4, Status.RUNNING, LocalDateTime.now()));
+        assertEquals(0, emailCampaignRepository.advanceCheckpoint(id, first, second, 4, Status.RUNNING, LocalDateTime.now()));
+
+        emailCampaignService.pauseCampaign(id);
+        assertEquals(0, emailCampaignRepository.advanceCheckpoint(id, second, unverified.get(9).getId(), 2,
+                Status.RUNNING, LocalDateTime.now()));
+        EmailCampaignResponseDto paused = emailCampaignService.getCampaign(id);
+        assertEquals(second, paused.getLastUserId());
+        assertEquals(8, paused.getUsersQueued());
+    }
+
+    @Test
+    void testPausedCampaignCannotBePausedAgain() {
+        EmailCampaign paused = emailCampaignRepository.save(EmailCampaign.builder()
+                .emailType(EmailType.EMAIL_VERIFICATION)
+                .status(Status.PAUSED)
+                .build());
+
+        assertThrows(RuntimeException.class, () -> emailCampaignService.pauseCampaign(paused.getId()));
+        assertEquals(Status.CANCELLED, emailCampaignService.cancelCampaign(paused.getId()).getStatus());
+        assertThrows(RuntimeException.class, () -> emailCampaignService.resumeCampaign(paused.getId()));
+    }
+
+    private EmailCampaignResponseDto awaitFinished(Long campaignId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        EmailCampaignResponseDto campaign = emailCampaignService.getCampaign(campaignId);
+        while (campaign.getStatus() == Status.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            campaign = emailCampaignService.getCampaign(campaignId);
+        }
+        return campaign;
+    }
+
+    private Map<Long, EmailOutbox> campaignEntries(Long campaignId) {
+        return emailOutboxRepository.findAll().stream()
+                .filter(entry -> campaignId.equals(entry.getCampaignId()))
+                .collect(Collectors.toMap(EmailOutbox::getUserId, Function.identity()));
+    }
+
+    private static User user(String username, boolean emailVerified) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("encodedPassword")
+                .emailVerified(emailVerified)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.user.service.registration;
+
+import com.user.service.dto.request.UserRegistrationRequestDto;
+import com.user.service.entity.EmailOutbox;
+import com.user.service.entity.EmailOutbox.EmailType;
+import com.user.service.entity.EmailOutbox.Status;
+import com.user.service.entity.User;
+import com.user.service.repository.EmailOutboxRepository;
+import com.user.service.repository.UserRepository;
+import com.user.service.repository.VerificationTokenRepository;
+import com.user.service.services.EmailOutboxService;
+import com.user.service.services.EmailService;
+import com.user.service.services.RegistrationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the email outbox
+ * EmailService is replaced by a slow, optionally failing stand-in for a real mail server
+ */
+@SpringBootTest(properties = "app.email.outbox.max-attempts=2")
+@ActiveProfiles("test")
+class EmailOutboxTest {
+
+    private static final long MAIL_SERVER_LATENCY_MS = 2_000;
+
+    @MockBean
+    private EmailService emailService;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        emailOutboxRepository.deleteAll();
+        userRepository.findByUsername("outbox_user").ifPresent(user -> {
+            verificationTokenRepository.deleteAll(verificationTokenRepository.findByUserId(user.getId()));
+            userRepository.delete(user);
+        });
+    }
+
+    @Test
+    void testRegistrationQueuesEmailsInsteadOfSending() throws Exception {
+        doAnswer(invocation -> {
+            Thread.sleep(MAIL_SERVER_LATENCY_MS);
+            return null;
+        }).when(emailService).sendEmailVerification(any(User.class), anyString());
+
+        long start = System.nanoTime();
+        assertEquals("SUCCESS", registrationService.registerUser(request()).getStatus());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs < MAIL_SERVER_LATENCY_MS, "Registration waited for the mail server: " + elapsedMs + " ms");
+        verifyNoInteractions(emailService);
+        List<EmailOutbox> queued = emailOutboxRepository.findAll();
+        assertEquals(2, queued.size());
+        assertTrue(queued.stream().allMatch(entry -> entry.getStatus() == Status.PENDING));
+
+        assertEquals(2, emailOutboxService.dispatchPending());
+
+        User user = userRepository.findByUsername("outbox_user").orElseThrow();
+        String token = verificationTokenRepository.findByUserId(user.getId()).get(0).getToken();
+        verify(emailService).sendEmailVerification(any(User.class), eq(token));
+        verify(emailService).sendWelcomeEmail(any(User.class));
+        assertEquals(2, emailOutboxRepository.countByStatus(Status.SENT));
+        assertEquals(0, emailOutboxService.dispatchPending());
+    }
+
+    @Test
+    void testFailedSendIsRetriedWithBackoffThenAbandoned() {
+        doThrow(new IllegalStateException("SMTP 451 try again later"))
+                .when(emailService).sendWelcomeEmail(any(User.class));
+
+        UserRegistrationRequestDto request = request();
+        request.setRequireEmailVerification(false);
+        assertEquals("SUCCESS", registrationService.registerUser(request).getStatus());
+
+        assertEquals(0, emailOutboxService.dispatchPending());
+        EmailOutbox retried = emailOutboxRepository.findAll().get(0);
+        assertEquals(EmailType.WELCOME, retried.getEmailType());
+        assertEquals(Status.PENDING, retried.getStatus());
+        assertEquals(1, retried.getAttempts());
+        assertTrue(retried.getNextAttemptAt().isAfter(retried.getCreatedAt()));
+        assertEquals("SMTP 451 try again later", retried.getLastError());
+
+        // Not due yet, so nothing is attempted
+        assertEquals(0, emailOutboxService.dispatchPending());
+        verify(emailService, times(1)).sendWelcomeEmail(any(User.class));
+
+        jdbcTemplate.update("UPDATE email_outbox SET next_attempt_at = created_at");
+        assertEquals(0, emailOutboxService.dispatchPending());
+        EmailOutbox abandoned = emailOutboxRepository.findAll().get(0);
+        assertEquals(Status.FAILED, abandoned.getStatus());
+        assertEquals(2, abandoned.getAttempts());
+    }
+
+    private static UserRegistrationRequestDto request() {
+        return UserRegistrationRequestDto.builder()
+                .username("outbox_user")
+                .email("outbox_user@example.com")
+                .password("SecurePass123!")
+                .confirmPassword("SecurePass123!")
+                .acceptTerms(true)
+                .acceptPrivacyPolicy(true)
+                .sendWelcomeEmail(true)
+                .requireEmailVerification(true)
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.user.service.registration;
+
+import com.user.service.dto.request.UserRegistrationRequestDto;
+import com.user.service.dto.response.UserRegistrationResponseDto;
+import com.user.service.entity.User;
+import com.user.service.repository.UserRepository;
+import com.user.service.repository.VerificationTokenRepository;
+import com.user.service.services.RegistrationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for concurrent registrations and token consumption
+ * Registration commits its own transaction, so this class is not @Transactional and cleans up after itself
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RegistrationConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.findByUsername("race_user").ifPresent(user -> {
+            verificationTokenRepository.deleteAll(verificationTokenRepository.findByUserId(user.getId()));
+            userRepository.delete(user);
+        });
+    }
+
+    @Test
+    void testConcurrentDuplicateRegistrationCreatesSingleUser() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<UserRegistrationResponseDto>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                // Same username, distinct emails, so only the username index can reject the losers
+                String email = "race_" + i + "@example.com";
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return registrationService.registerUser(request("race_user", email));
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<UserRegistrationResponseDto> result : results) {
+                UserRegistrationResponseDto response = result.get();
+                if ("SUCCESS".equals(response.getStatus())) {
+                    succeeded++;
+                } else {
+                    assertEquals("VALIDATION_ERROR", response.getStatus());
+                }
+            }
+
+            assertEquals(1, succeeded);
+            assertTrue(registrationService.isUsernameAlreadyTaken("race_user"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDuplicateEmailReportedAsExistingUser() {
+        assertEquals("SUCCESS", registrationService.registerUser(request("race_user", "race@example.com")).getStatus());
+
+        UserRegistrationResponseDto response = registrationService.registerUser(request("other_user", "race@example.com"));
+
+        assertEquals("USER_EXISTS", response.getStatus());
+        assertTrue(registrationService.isEmailAlreadyRegistered("race@example.com"));
+        assertFalse(registrationService.isUsernameAlreadyTaken("other_user"));
+    }
+
+    @Test
+    void testConcurrentVerificationConsumesTokenOnce() throws Exception {
+        assertEquals("SUCCESS", registrationService.registerUser(request("race_user", "race@example.com")).getStatus());
+        User user = userRepository.findByUsername("race_user").orElseThrow();
+        String token = verificationTokenRepository.findByUserId(user.getId()).get(0).getToken();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return registrationService.verifyEmail(token);
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+
+            assertEquals(1, succeeded);
+            assertTrue(userRepository.findByUsername("race_user").orElseThrow().getEmailVerified());
+            assertTrue(verificationTokenRepository.findByToken(token).orElseThrow().getUsed());
+            assertFalse(registrationService.verifyEmail(token));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static UserRegistrationRequestDto request(String username, String email) {
+        return UserRegistrationRequestDto.builder()
+                .username(username)
+                .email(email)
+                .password("SecurePass123!")
+                .confirmPassword("SecurePass123!")
+                .acceptTerms(true)
+                .acceptPrivacyPolicy(true)
+                .sendWelcomeEmail(false)
+                .requireEmailVerification(false)
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.user.service.registration;
+
+import com.user.service.dto.request.UserRegistrationRequestDto;
+import com.user.service.dto.response.BulkImportResponseDto;
+import com.user.service.dto.response.BulkImportResponseDto.RowError;
+import com.user.service.entity.Role;
+import com.user.service.entity.User;
+import com.user.service.error.ValidationException;
+import com.user.service.repository.UserRepository;
+import com.user.service.repository.VerificationTokenRepository;
+import com.user.service.services.RegistrationService;
+import com.user.service.services.UserImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for bulk user import
+ * Covers per-row error reporting, batched inserts and throughput against the single-user path
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserImportServiceTest {
+
+    private static final String HEADER = "username,email,password,firstName,lastName,phone,role\n";
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testImportCreatesUsersAndVerificationTokens() throws IOException {
+        String csv = HEADER
+                + "import_one,one@example.com,SecurePass123!,One,User,+1234567890,CUSTOMER\n"
+                + "import_two,two@example.com,SecurePass123!,Two,User,,merchant\n";
+
+        BulkImportResponseDto response = userImportService.importUsers(stream(csv), false);
+
+        assertEquals(2, response.getTotalRows());
+        assertEquals(2, response.getImportedCount());
+        assertEquals(0, response.getFailedCount());
+        assertTrue(response.getErrors().isEmpty());
+
+        User merchant = userRepository.findByUsername("import_two").orElseThrow();
+        assertEquals(Role.MERCHANT, merchant.getRole());
+        assertFalse(merchant.getEmailVerified());
+        assertTrue(merchant.getAccountLocked());
+        assertNotEquals("SecurePass123!", merchant.getPassword());
+        assertEquals(1, verificationTokenRepository.findByUserId(merchant.getId()).size());
+    }
+
+    @Test
+    void testImportReportsPerRowErrors() throws IOException {
+        userRepository.save(User.builder()
+                .username("existing_user")
+                .email("existing@example.com")
+                .password("encodedPassword")
+                .build());
+
+        String csv = HEADER
+                + "valid_user,valid@example.com,SecurePass123!,Valid,User,,\n"
+                + "existing_user,fresh@example.com,SecurePass123!,,,,\n"
+                + "fresh_user,existing@example.com,SecurePass123!,,,,\n"
+                + "valid_user,other@example.com,SecurePass123!,,,,\n"
+                + "weak_user,weak@example.com,weak,,,,\n"
+                + "role_user,role@example.com,SecurePass123!,,,,SUPERUSER\n";
+
+        BulkImportResponseDto response = userImportService.importUsers(stream(csv), false);
+
+        assertEquals(6, response.getTotalRows());
+        assertEquals(1, response.getImportedCount());
+        assertEquals(5, response.getFailedCount());
+        assertEquals(5, response.getErrors().size());
+        assertTrue(errorFor(response, 3).getMessages().contains("Username is already taken"));
+        assertTrue(errorFor(response, 4).getMessages().contains("Email is already registered"));
+        assertTrue(errorFor(response, 5).getMessages().contains("Username appears more than once in the import file"));
+        assertTrue(errorFor(response, 6).getMessages().stream().anyMatch(m -> m.startsWith("password")));
+        assertTrue(errorFor(response, 7).getMessages().get(0).startsWith("role"));
+        assertTrue(userRepository.findByUsername("valid_user").isPresent());
+    }
+
+    @Test
+    void testImportRejectsMissingRequiredColumns() {
+        String csv = "username,email\nsomeone,someone@example.com\n";
+
+        ValidationException e = assertThrows(ValidationException.class,
+                () -> userImportService.importUsers(stream(csv), false));
+        assertTrue(e.getValidationErrors().contains("Missing required column: password"));
+    }
+
+    @Test
+    void testImportThroughputAgainstSingleRegistration() throws IOException {
+        int users = 20;
+
+        // registerUser commits on its own, outside the test transaction
+        for (int i = 0; i < users; i++) {
+            UserRegistrationRequestDto request = UserRegistrationRequestDto.builder()
+                    .username("single_" + i)
+                    .email("single_" + i + "@example.com")
+                    .password("SecurePass123!")
+                    .confirmPassword("SecurePass123!")
+                    .acceptTerms(true)
+                    .acceptPrivacyPolicy(true)
+                    .sendWelcomeEmail(false)
+                    .requireEmailVerification(false)
+                    .build();
+            assertEquals("SUCCESS", registrationService.registerUser(request).getStatus());
+        }
+        deleteCommittedUsers("single_", users);
+
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < users; i++) {
+            csv.append("bulk_").append(i).append(",bulk_").append(i).append("@example.com,SecurePass123!,,,,\n");
+        }
+        BulkImportResponseDto response = userImportService.importUsers(stream(csv.toString()), false);
+
+        assertEquals(users, response.getImportedCount());
+        assertTrue(response.getRowsPerSecond() > 0);
+    }
+
+    private void deleteCommittedUsers(String prefix, int count) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        requiresNew.executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                userRepository.findByUsername(prefix + i).ifPresent(user -> {
+                    verificationTokenRepository.deleteAll(verificationTokenRepository.findByUserId(user.getId()));
+                    userRepository.delete(user);
+                });
+            }
+        });
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static RowError errorFor(BulkImportResponseDto response, long lineNumber) {
+        return response.getErrors().stream()
+                .filter(error -> error.getLineNumber() == lineNumber)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No error reported for line " + lineNumber));
+    }
+}
@@ -0,0 +1,108 @@
+package com.user.service.registration;
+
+import com.user.service.entity.User;
+import com.user.service.entity.VerificationToken;
+import com.user.service.repository.UserRepository;
+import com.user.service.repository.VerificationTokenRepository;
+import com.user.service.services.RegistrationService;
+import com.user.service.services.VerificationTokenCleanupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the verification token janitor and single-statement token invalidation
+ * A batch size of 2 forces the purge through several delete batches
+ */
+@SpringBootTest(properties = "app.email.verification.cleanup.batch-size=2")
+@ActiveProfiles("test")
+class VerificationTokenCleanupTest {
+
+    @Autowired
+    private VerificationTokenCleanupService cleanupService;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        user = userRepository.save(User.builder()
+                .username("janitor_user")
+                .email("janitor_user@example.com")
+                .password("encodedPassword")
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        verificationTokenRepository.deleteAll(verificationTokenRepository.findByUserId(user.getId()));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void testPurgeDeletesExpiredAndOldUsedTokensOnly() {
+        for (int i = 0; i < 3; i++) {
+            token("expired_" + i, LocalDateTime.now().minusDays(3), false);
+        }
+        token("recently_expired", LocalDateTime.now().minusHours(1), false);
+        for (int i = 0; i < 3; i++) {
+            token("old_used_" + i, LocalDateTime.now().plusHours(1), true);
+        }
+        token("recently_used", LocalDateTime.now().plusHours(1), true);
+        token("live", LocalDateTime.now().plusHours(1), false);
+        jdbcTemplate.update("UPDATE verification_tokens SET created_at = ? WHERE token LIKE 'old_used_%'",
+                LocalDateTime.now().minusDays(3));
+
+        assertTrue(cleanupService.purgeTokens() >= 6);
+
+        List<String> remaining = verificationTokenRepository.findByUserId(user.getId()).stream()
+                .map(VerificationToken::getToken)
+                .sorted()
+                .toList();
+        assertEquals(List.of("live", "recently_expired", "recently_used"), remaining);
+    }
+
+    @Test
+    void testNewTokenInvalidatesPreviousTokens() {
+        token("first", LocalDateTime.now().plusHours(1), false);
+        token("second", LocalDateTime.now().plusHours(1), false);
+
+        assertTrue(registrationService.generateNewVerificationToken("janitor_user@example.com"));
+
+        List<VerificationToken> unused = verificationTokenRepository.findByUserId(user.getId()).stream()
+                .filter(token -> !token.getUsed())
+                .toList();
+        assertEquals(1, unused.size());
+        assertNotEquals("first", unused.get(0).getToken());
+        assertNotEquals("second", unused.get(0).getToken());
+    }
+
+    private void token(String value, LocalDateTime expiryDate, boolean used) {
+        verificationTokenRepository.save(VerificationToken.builder()
+                .token(value)
+                .user(user)
+                .expiryDate(expiryDate)
+                .used(used)
+                .build());
+    }
+}
@@ -0,0 +1,163 @@
+package com.user.service.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.service.security.repositories.ClientRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.settings.ClientSettings;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for client_credentials access token reuse
+ * Covers the per-client opt-in, scope-keyed reuse and eviction on revocation and client updates
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ClientCredentialsTokenReuseTest {
+
+    private static final String SECRET = "reuse-client-secret";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private RegisteredClientRepository registeredClientRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private RegisteredClient reusingClient;
+    private RegisteredClient plainClient;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+        reusingClient = client(true);
+        plainClient = client(false);
+        registeredClientRepository.save(reusingClient);
+        registeredClientRepository.save(plainClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (RegisteredClient client : new RegisteredClient[] {reusingClient, plainClient}) {
+            jdbcTemplate.update("DELETE FROM \"authorization\" WHERE registered_client_id = ?", client.getId());
+            clientRepository.deleteById(client.getId());
+        }
+    }
+
+    @Test
+    void testOptedInClientGetsSameTokenWithoutNewAuthorization() throws Exception {
+        String first = requestToken(reusingClient, "user.read");
+        long rows = authorizations(reusingClient);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first, requestToken(reusingClient, "user.read"));
+        }
+        assertEquals(1, rows);
+        assertEquals(rows, authorizations(reusingClient));
+    }
+
+    @Test
+    void testClientWithoutOptInGetsFreshTokens() throws Exception {
+        String first = requestToken(plainClient, "user.read");
+        String second = requestToken(plainClient, "user.read");
+
+        assertNotEquals(first, second);
+        assertEquals(2, authorizations(plainClient));
+    }
+
+    @Test
+    void testTokensAreKeyedByScopeSet() throws Exception {
+        String read = requestToken(reusingClient, "user.read");
+        String both = requestToken(reusingClient, "user.read user.validate");
+
+        assertNotEquals(read, both);
+        assertEquals(both, requestToken(reusingClient, "user.validate user.read"));
+        assertEquals(read, requestToken(reusingClient, "user.read"));
+    }
+
+    @Test
+    void testRevokedTokenIsNotReused() throws Exception {
+        String first = requestToken(reusingClient, "user.read");
+
+        mockMvc.perform(post("/oauth2/revoke")
+                        .with(httpBasic(reusingClient.getClientId(), SECRET))
+                        .param("token", first))
+                .andExpect(status().isOk());
+
+        assertNotEquals(first, requestToken(reusingClient, "user.read"));
+    }
+
+    @Test
+    void testClientUpdateDropsIndexedTokens() throws Exception {
+        String first = requestToken(reusingClient, "user.read");
+
+        registeredClientRepository.save(RegisteredClient.from(reusingClient).clientName("Renamed Reuse Client").build());
+
+        assertNotEquals(first, requestToken(reusingClient, "user.read"));
+    }
+
+    private String requestToken(RegisteredClient client, String scope) throws Exception {
+        String body = mockMvc.perform(post("/oauth2/token")
+                        .with(httpBasic(client.getClientId(), SECRET))
+                        .param("grant_type", "client_credentials")
+                        .param("scope", scope))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("access_token").asText();
+    }
+
+    private long authorizations(RegisteredClient client) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"authorization\" WHERE registered_client_id = ?", Long.class, client.getId());
+    }
+
+    private RegisteredClient client(boolean reuseAccessTokens) {
+        String id = UUID.randomUUID().toString();
+        return RegisteredClient.withId(id)
+                .clientId("reuse_client_" + id)
+                .clientSecret(passwordEncoder.encode(SECRET))
+                .clientName("Reuse Client")
+                .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .scope("user.read")
+                .scope("user.validate")
+                .clientSettings(ClientSettings.builder()
+                        .setting(ClientCredentialsTokenCache.REUSE_ACCESS_TOKEN_SETTING, reuseAccessTokens)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.user.service.security;
+
+import com.user.service.security.repositories.ClientRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the client secret verification cache
+ * Covers cache hits on repeated client_credentials grants, wrong secrets and invalidation on secret rotation
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ClientSecretCacheTest {
+
+    private static final String SECRET = "product-service-secret";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ClientSecretCache clientSecretCache;
+
+    @Autowired
+    private RegisteredClientRepository registeredClientRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private MockMvc mockMvc;
+    private RegisteredClient registeredClient;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+        registeredClient = client(UUID.randomUUID().toString(), passwordEncoder.encode(SECRET));
+        registeredClientRepository.save(registeredClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientRepository.deleteById(registeredClient.getId());
+    }
+
+    @Test
+    void testRepeatedTokenRequestsHitCache() throws Exception {
+        long hitsBefore = clientSecretCache.getHitCount();
+
+        requestToken(SECRET).andExpect(status().isOk()).andExpect(jsonPath("$.access_token").exists());
+
+        int repeats = 20;
+        for (int i = 0; i < repeats; i++) {
+            requestToken(SECRET).andExpect(status().isOk());
+        }
+
+        assertEquals(hitsBefore + repeats, clientSecretCache.getHitCount());
+    }
+
+    @Test
+    void testWrongSecretIsRejectedAndNeverCached() throws Exception {
+        requestToken(SECRET).andExpect(status().isOk());
+        long hitsBefore = clientSecretCache.getHitCount();
+        long missesBefore = clientSecretCache.getMissCount();
+
+        requestToken("wrong-secret").andExpect(status().isUnauthorized());
+        requestToken("wrong-secret").andExpect(status().isUnauthorized());
+
+        assertEquals(hitsBefore, clientSecretCache.getHitCount());
+        assertEquals(missesBefore + 2, clientSecretCache.getMissCount());
+    }
+
+    @Test
+    void testRotatedSecretInvalidatesCachedMatch() throws Exception {
+        String oldHash = registeredClient.getClientSecret();
+        requestToken(SECRET).andExpect(status().isOk());
+        assertTrue(clientSecretCache.matches(SECRET, oldHash));
+
+        registeredClientRepository.save(RegisteredClient.from(registeredClient)
+                .clientSecret(passwordEncoder.encode("rotated-secret"))
+                .build());
+        long missesBefore = clientSecretCache.getMissCount();
+
+        requestToken(SECRET).andExpect(status().isUnauthorized());
+        requestToken("rotated-secret").andExpect(status().isOk());
+        assertEquals(missesBefore + 2, clientSecretCache.getMissCount());
+
+        // The old hash must be verified by BCrypt again rather than served from the cache
+        long oldHashMisses = clientSecretCache.getMissCount();
+        assertTrue(clientSecretCache.matches(SECRET, oldHash));
+        assertEquals(oldHashMisses + 1, clientSecretCache.getMissCount());
+    }
+
+    @Test
+    void testInvalidateDropsEntry() {
+        String hash = registeredClient.getClientSecret();
+        assertTrue(clientSecretCache.matches(SECRET, hash));
+        long hitsBefore = clientSecretCache.getHitCount();
+        assertTrue(clientSecretCache.matches(SECRET, hash));
+        assertEquals(hitsBefore + 1, clientSecretCache.getHitCount());
+
+        clientSecretCache.invalidate(hash);
+        long missesBefore = clientSecretCache.getMissCount();
+        assertTrue(clientSecretCache.matches(SECRET, hash));
+        assertEquals(missesBefore + 1, clientSecretCache.getMissCount());
+        assertFalse(clientSecretCache.matches("other-secret", hash));
+    }
+
+    private ResultActions requestToken(String secret) throws Exception {
+        return mockMvc.perform(post("/oauth2/token")
+                .with(httpBasic(registeredClient.getClientId(), secret))
+                .param("grant_type", "client_credentials")
+                .param("scope", "user.read"));
+    }
+
+    private static RegisteredClient client(String id, String encodedSecret) {
+        return RegisteredClient.withId(id)
+                .clientId("cache_client_" + id)
+                .clientSecret(encodedSecret)
+                .clientName("Secret Cache Client")
+                .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .scope("user.read")
+                .build();
+    }
+}
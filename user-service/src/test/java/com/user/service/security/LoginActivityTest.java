@@ -0,0 +1,111 @@
+package com.user.service.security;
+
+import com.user.service.dto.request.AuthRequestDto;
+import com.user.service.entity.User;
+import com.user.service.error.InvalidCredentialsException;
+import com.user.service.repository.UserRepository;
+import com.user.service.services.AuthService;
+import com.user.service.services.LoginActivityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for login bookkeeping
+ * Verifies that failed attempts do not write the users row until the lock transition
+ * and that last-login stamps arrive through the batched flush
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class LoginActivityTest {
+
+    private static final String PASSWORD = "SecurePass123";
+
+    // Fresh username per test so the per-username login rate limit never interferes
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LoginActivityService loginActivityService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("login_tracker_" + SEQUENCE.incrementAndGet())
+                .email("login_tracker_" + SEQUENCE.get() + "@example.com")
+                .password(passwordEncoder.encode(PASSWORD))
+                .emailVerified(true)
+                .accountLocked(false)
+                .build());
+    }
+
+    @Test
+    void testFailedAttemptsOnlyPersistLockTransition() {
+        Object updatedAt = row().get("updated_at");
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(InvalidCredentialsException.class, () -> authService.login(login("WrongPass123")));
+        }
+        Map<String, Object> afterFailures = row();
+        assertEquals(false, afterFailures.get("account_locked"));
+        assertEquals(0, afterFailures.get("failed_login_attempts"));
+        assertEquals(updatedAt, afterFailures.get("updated_at"));
+
+        assertThrows(InvalidCredentialsException.class, () -> authService.login(login("WrongPass123")));
+        Map<String, Object> locked = row();
+        assertEquals(true, locked.get("account_locked"));
+        assertEquals(5, locked.get("failed_login_attempts"));
+    }
+
+    @Test
+    void testSuccessfulLoginStampsLastLoginOnFlush() {
+        assertThrows(InvalidCredentialsException.class, () -> authService.login(login("WrongPass123")));
+        assertNotNull(authService.login(login(PASSWORD)));
+        assertNull(row().get("last_login"));
+
+        loginActivityService.flushLastLogins();
+        assertNotNull(row().get("last_login"));
+
+        // The earlier failure was cleared by the success, so four more do not lock the account
+        for (int i = 0; i < 4; i++) {
+            assertThrows(InvalidCredentialsException.class, () -> authService.login(login("WrongPass123")));
+        }
+        assertEquals(false, row().get("account_locked"));
+    }
+
+    private AuthRequestDto login(String password) {
+        AuthRequestDto request = new AuthRequestDto();
+        request.setUsername(user.getUsername());
+        request.setPassword(password);
+        return request;
+    }
+
+    private Map<String, Object> row() {
+        return jdbcTemplate.queryForMap(
+                "SELECT account_locked, failed_login_attempts, last_login, updated_at FROM users WHERE id = ?", user.getId());
+    }
+}
@@ -0,0 +1,134 @@
+package com.user.service.security;
+
+import com.user.service.dto.response.TokenValidationBatchResponseDto;
+import com.user.service.dto.response.TokenValidationBatchResponseDto.TokenResult;
+import com.user.service.entity.Role;
+import com.user.service.entity.User;
+import com.user.service.error.ValidationException;
+import com.user.service.repository.UserRepository;
+import com.user.service.security.keys.JwkKeyring;
+import com.user.service.security.keys.JwkKeyring.SessionSigningKey;
+import com.user.service.services.TokenValidationService;
+import com.user.service.util.JwtTokenUtil;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for batch token validation
+ * Covers per-token outcomes in request order, role lookup and the chunked parallel path
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TokenValidationBatchTest {
+
+    @Autowired
+    private TokenValidationService tokenValidationService;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    private JwkKeyring jwkKeyring;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void testBatchReportsEachTokenInRequestOrder() {
+        saveUser("batch_merchant", Role.MERCHANT, false);
+        saveUser("batch_locked", Role.CUSTOMER, true);
+
+        List<String> tokens = List.of(
+                jwtTokenUtil.generateToken("batch_merchant"),
+                "Bearer " + jwtTokenUtil.generateToken("batch_merchant"),
+                expiredToken("batch_merchant"),
+                "not.a.jwt",
+                jwtTokenUtil.generateToken("batch_nobody"),
+                jwtTokenUtil.generateToken("batch_locked"),
+                "");
+
+        TokenValidationBatchResponseDto response = tokenValidationService.validateBatch(tokens);
+
+        assertEquals(7, response.getTotalCount());
+        assertEquals(2, response.getValidCount());
+        List<TokenResult> results = response.getResults();
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getIndex());
+        }
+        assertTrue(results.get(0).isValid());
+        assertEquals("batch_merchant", results.get(0).getSubject());
+        assertEquals(List.of("MERCHANT"), results.get(0).getRoles());
+        assertNotNull(results.get(0).getExpiresAt());
+        assertTrue(results.get(1).isValid());
+        assertEquals("Token has expired", results.get(2).getError());
+        assertEquals("batch_merchant", results.get(2).getSubject());
+        assertEquals("Token is malformed or its signature is invalid", results.get(3).getError());
+        assertEquals("Token subject is not a known user", results.get(4).getError());
+        assertEquals("Account is locked", results.get(5).getError());
+        assertNull(results.get(5).getRoles());
+        assertEquals("Token is required", results.get(6).getError());
+    }
+
+    @Test
+    void testLargeBatchIsValidatedAcrossChunks() {
+        saveUser("batch_customer", Role.CUSTOMER, false);
+        String valid = jwtTokenUtil.generateToken("batch_customer");
+        String tampered = valid.substring(0, valid.length() - 2) + (valid.endsWith("AA") ? "BB" : "AA");
+
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            tokens.add(i % 3 == 0 ? tampered : valid);
+        }
+
+        TokenValidationBatchResponseDto response = tokenValidationService.validateBatch(tokens);
+
+        assertEquals(300, response.getTotalCount());
+        assertEquals(200, response.getValidCount());
+        for (TokenResult result : response.getResults()) {
+            assertEquals(result.getIndex() % 3 != 0, result.isValid());
+        }
+    }
+
+    @Test
+    void testOversizedBatchIsRejected() {
+        List<String> tokens = Collections.nCopies(501, "token");
+
+        ValidationException e = assertThrows(ValidationException.class,
+                () -> tokenValidationService.validateBatch(tokens));
+        assertTrue(e.getValidationErrors().contains("tokens must contain at most 500 entries"));
+    }
+
+    private void saveUser(String username, Role role, boolean locked) {
+        userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("encodedPassword")
+                .role(role)
+                .accountLocked(locked)
+                .build());
+    }
+
+    private String expiredToken(String subject) {
+        SessionSigningKey signingKey = jwkKeyring.getSessionSigningKey();
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .header().keyId(signingKey.keyId()).and()
+                .subject(subject)
+                .issuedAt(new Date(now - 7_200_000))
+                .expiration(new Date(now - 3_600_000))
+                .signWith(signingKey.key())
+                .compact();
+    }
+}
@@ -0,0 +1,256 @@
+package com.user.service.security.keys;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.KeyType;
+import com.user.service.security.keys.JwkKeyring.SessionSigningKey;
+import com.user.service.util.JwtTokenUtil;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the JWK keyring
+ * Covers persistence across restarts, publish-ahead rotation and algorithm switches, kid lookup of retired keys and pruning
+ */
+class JwkKeyringTest {
+
+    @TempDir
+    Path directory;
+
+    private KeyringProperties properties;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KeyringProperties();
+        properties.setPath(directory.resolve("jwk-keyring.json").toString());
+        properties.setRotationInterval(Duration.ofDays(30));
+        properties.setPublishAhead(Duration.ofMinutes(5));
+        properties.setRetention(Duration.ofDays(2));
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void testRestartReusesPersistedKeys() {
+        JwkKeyring first = keyring();
+        String token = new JwtTokenUtil(first).generateToken("alice");
+
+        JwkKeyring restarted = keyring();
+
+        assertEquals(first.getSigningKey().getKeyID(), restarted.getSigningKey().getKeyID());
+        assertEquals(first.getSessionSigningKeyId(), restarted.getSessionSigningKeyId());
+        assertEquals("alice", new JwtTokenUtil(restarted).getSubjectFromToken(token));
+    }
+
+    @Test
+    void testConcurrentStartupsAgreeOnOneKeyring() {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<JwkKeyring>> nodes = IntStream.range(0, 4)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return keyring();
+                }))
+                .toList();
+        start.countDown();
+
+        Set<String> signingKids = nodes.stream().map(node -> node.join().getSigningKey().getKeyID()).collect(Collectors.toSet());
+        Set<String> sessionKids = nodes.stream().map(node -> node.join().getSessionSigningKeyId()).collect(Collectors.toSet());
+
+        assertEquals(1, signingKids.size());
+        assertEquals(1, sessionKids.size());
+        assertEquals(2, keyring().getKeyCount());
+    }
+
+    @Test
+    void testRotationPublishesAheadAndKeepsOldKeysVerifiable() throws Exception {
+        JwkKeyring keyring = keyring();
+        JwkKeyring otherNode = keyring();
+        String oldRsaKid = keyring.getSigningKey().getKeyID();
+        String oldToken = new JwtTokenUtil(keyring).generateToken("bob");
+
+        clock.advance(Duration.ofDays(30));
+        keyring.rotateIfDue();
+
+        // The successor is published but does not sign until the publish-ahead window has passed
+        assertEquals(oldRsaKid, keyring.getSigningKey().getKeyID());
+        assertEquals(4, keyring.getKeyCount());
+
+        clock.advance(Duration.ofMinutes(5));
+        keyring.rotateIfDue();
+        otherNode.rotateIfDue();
+
+        String newRsaKid = keyring.getSigningKey().getKeyID();
+        assertNotEquals(oldRsaKid, newRsaKid);
+        assertEquals(newRsaKid, otherNode.getSigningKey().getKeyID());
+        assertEquals(1, byKid(otherNode, oldRsaKid).size());
+        assertEquals("bob", new JwtTokenUtil(otherNode).getSubjectFromToken(oldToken));
+    }
+
+    @Test
+    void testRetiredKeysArePrunedAfterRetention() throws Exception {
+        JwkKeyring keyring = keyring();
+        String oldRsaKid = keyring.getSigningKey().getKeyID();
+        String oldToken = new JwtTokenUtil(keyring).generateToken("carol");
+
+        clock.advance(Duration.ofDays(30));
+        keyring.rotateIfDue();
+        clock.advance(Duration.ofMinutes(5).plus(Duration.ofDays(2)).plusSeconds(1));
+        keyring.rotateIfDue();
+
+        assertEquals(2, keyring.getKeyCount());
+        assertTrue(byKid(keyring, oldRsaKid).isEmpty());
+        assertFalse(new JwtTokenUtil(keyring).validateToken(oldToken));
+    }
+
+    @Test
+    void testVerificationSourceNeverExposesHmacKeys() throws Exception {
+        JwkKeyring keyring = keyring();
+
+        List<JWK> all = keyring.verificationJwkSource().get(new JWKSelector(new JWKMatcher.Builder().build()), null);
+        List<JWK> byHmacKid = byKid(keyring, keyring.getSessionSigningKeyId());
+
+        assertEquals(1, all.size());
+        assertEquals(keyring.getSigningKey().getKeyID(), all.get(0).getKeyID());
+        assertTrue(byHmacKid.isEmpty());
+    }
+
+    @Test
+    void testAlgorithmSwitchPublishesNewKeyTypeAhead() throws Exception {
+        JwkKeyring rsa = keyring();
+        String rsaKid = rsa.getSigningKey().getKeyID();
+        String rsaSessionToken = sessionTokensOnSigningKey(rsa).generateToken("dave");
+
+        properties.setAlgorithm("ES256");
+        JwkKeyring switched = keyring();
+
+        // Until the EC key has been published for publish-ahead, RSA keeps signing and both are in the JWK set
+        assertEquals(rsaKid, switched.getSigningKey().getKeyID());
+        assertEquals(JWSAlgorithm.RS256, switched.getSigningAlgorithm());
+        List<JWK> published = switched.verificationJwkSource().get(new JWKSelector(new JWKMatcher.Builder().build()), null);
+        assertEquals(Set.of(KeyType.RSA, KeyType.EC), published.stream().map(JWK::getKeyType).collect(Collectors.toSet()));
+
+        clock.advance(Duration.ofMinutes(5));
+        switched.rotateIfDue();
+
+        assertEquals(JWSAlgorithm.ES256, switched.getSigningAlgorithm());
+        assertInstanceOf(ECKey.class, switched.getSigningKey());
+        assertEquals("dave", sessionTokensOnSigningKey(switched).getSubjectFromToken(rsaSessionToken));
+    }
+
+    @Test
+    void testSessionTokensCanUseSharedSigningKey() {
+        properties.setAlgorithm("ES256");
+        JwkKeyring keyring = keyring();
+        JwtTokenUtil jwtTokenUtil = sessionTokensOnSigningKey(keyring);
+
+        String token = jwtTokenUtil.generateToken("erin");
+
+        assertEquals("ES256", jwtTokenUtil.getClaimsFromToken(token).getHeader().getAlgorithm());
+        assertEquals(keyring.getSigningKey().getKeyID(), jwtTokenUtil.getClaimsFromToken(token).getHeader().getKeyId());
+        assertTrue(jwtTokenUtil.validateToken(token));
+    }
+
+    @Test
+    void testSigningKeyVerifiesSessionTokensOnlyWhenShared() {
+        JwkKeyring keyring = keyring();
+        String sharedKeyToken = sessionTokensOnSigningKey(keyring).generateToken("frank");
+
+        properties.setSessionTokensUseSigningKey(false);
+
+        assertFalse(new JwtTokenUtil(keyring).validateToken(sharedKeyToken));
+    }
+
+    @Test
+    void testSharedSigningKeyRejectsAccessTokens() {
+        JwkKeyring keyring = keyring();
+        JwtTokenUtil jwtTokenUtil = sessionTokensOnSigningKey(keyring);
+        SessionSigningKey signingKey = keyring.getSessionSigningKey();
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+        String unmarked = Jwts.builder()
+                .header().keyId(signingKey.keyId()).and()
+                .subject("grace").expiration(expiration)
+                .signWith(signingKey.key()).compact();
+        String scoped = Jwts.builder()
+                .header().keyId(signingKey.keyId()).type("session+jwt").and()
+                .subject("grace").claim("scope", "user.read").expiration(expiration)
+                .signWith(signingKey.key()).compact();
+
+        assertFalse(jwtTokenUtil.validateToken(unmarked));
+        assertFalse(jwtTokenUtil.validateToken(scoped));
+        assertTrue(jwtTokenUtil.validateToken(jwtTokenUtil.generateToken("grace")));
+    }
+
+    @Test
+    void testUnsupportedAlgorithmIsRejected() {
+        properties.setAlgorithm("EdDSA");
+
+        assertThrows(IllegalStateException.class, () -> new JwkKeyring(properties, clock));
+    }
+
+    private JwtTokenUtil sessionTokensOnSigningKey(JwkKeyring keyring) {
+        properties.setSessionTokensUseSigningKey(true);
+        return new JwtTokenUtil(keyring);
+    }
+
+    private JwkKeyring keyring() {
+        JwkKeyring keyring = new JwkKeyring(properties, clock);
+        keyring.initialize();
+        return keyring;
+    }
+
+    private static List<JWK> byKid(JwkKeyring keyring, String kid) throws Exception {
+        return keyring.verificationJwkSource().get(new JWKSelector(new JWKMatcher.Builder().keyID(kid).build()), null);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.user.service.security.keys;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jwt.SignedJWT;
+import com.user.service.entity.Role;
+import com.user.service.entity.User;
+import com.user.service.repository.UserRepository;
+import com.user.service.security.repositories.ClientRepository;
+import com.user.service.services.TokenValidationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for issuing OAuth2 tokens with ES256
+ * Checks the token header, verification through the JwtDecoder, publication of the EC key and that access tokens
+ * are never accepted as session tokens
+ */
+@SpringBootTest(properties = {
+        "app.security.keyring.algorithm=ES256",
+        "app.security.keyring.path=target/test-keyring/es256-keyring.json"
+})
+@ActiveProfiles("test")
+class SigningAlgorithmTest {
+
+    private static final String SECRET = "es256-client-secret";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private RegisteredClientRepository registeredClientRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private JwkKeyring jwkKeyring;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenValidationService tokenValidationService;
+
+    private MockMvc mockMvc;
+    private RegisteredClient registeredClient;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+        String id = UUID.randomUUID().toString();
+        registeredClient = RegisteredClient.withId(id)
+                .clientId("es256_client_" + id)
+                .clientSecret(passwordEncoder.encode(SECRET))
+                .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .scope("user.read")
+                .build();
+        registeredClientRepository.save(registeredClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsername(registeredClient.getClientId()).ifPresent(userRepository::delete);
+        clientRepository.deleteById(registeredClient.getId());
+    }
+
+    @Test
+    void testAccessTokenIsSignedWithEs256() throws Exception {
+        String accessToken = accessToken();
+
+        SignedJWT jwt = SignedJWT.parse(accessToken);
+        assertEquals("ES256", jwt.getHeader().getAlgorithm().getName());
+        assertEquals(jwkKeyring.getSigningKey().getKeyID(), jwt.getHeader().getKeyID());
+        assertEquals(registeredClient.getClientId(), jwtDecoder.decode(accessToken).getSubject());
+    }
+
+    @Test
+    void testAccessTokenIsRejectedAsSessionToken() throws Exception {
+        // A user named like the client must not be reachable through the client's access token
+        userRepository.save(User.builder()
+                .username(registeredClient.getClientId())
+                .email("es256_client@example.com")
+                .password("encodedPassword")
+                .role(Role.ADMIN)
+                .emailVerified(true)
+                .accountLocked(false)
+                .build());
+        String accessToken = accessToken();
+
+        mockMvc.perform(get("/auth/validate").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+        assertFalse(tokenValidationService.validateBatch(List.of(accessToken)).getResults().get(0).isValid());
+    }
+
+    @Test
+    void testJwkSetPublishesPublicEcKey() throws Exception {
+        String body = mockMvc.perform(get("/oauth2/jwks"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode signingKey = null;
+        for (JsonNode key : objectMapper.readTree(body).get("keys")) {
+            assertNotEquals("oct", key.get("kty").asText());
+            assertFalse(key.has("d"));
+            if (jwkKeyring.getSigningKey().getKeyID().equals(key.get("kid").asText())) {
+                signingKey = key;
+            }
+        }
+        assertNotNull(signingKey);
+        assertEquals("EC", signingKey.get("kty").asText());
+        assertEquals("P-256", signingKey.get("crv").asText());
+    }
+
+    private String accessToken() throws Exception {
+        String body = mockMvc.perform(post("/oauth2/token")
+                        .with(httpBasic(registeredClient.getClientId(), SECRET))
+                        .param("grant_type", "client_credentials")
+                        .param("scope", "user.read"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("access_token").asText();
+    }
+}
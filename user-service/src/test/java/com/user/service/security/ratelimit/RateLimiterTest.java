@@ -0,0 +1,141 @@
+package com.user.service.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the GCRA rate limiter and the per-IP rate limit filter
+ */
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void testBurstThenRefill() {
+        RateLimiter limiter = new RateLimiter(5, Duration.ofMinutes(1), 100, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("client"));
+        }
+        long wait = limiter.tryAcquire("client");
+        assertEquals(TimeUnit.SECONDS.toNanos(12), wait);
+
+        clock.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertTrue(limiter.tryAcquire("client") > 0);
+        assertEquals(0, limiter.tryAcquire("other"));
+    }
+
+    @Test
+    void testIdleBucketsEvictedAtCapacity() {
+        RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(1), 3, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        limiter.tryAcquire("c");
+        assertEquals(3, limiter.size());
+
+        // Nothing has refilled yet, so the new key falls back to the shared overflow bucket
+        assertEquals(0, limiter.tryAcquire("d"));
+        assertTrue(limiter.tryAcquire("e") > 0);
+        assertEquals(3, limiter.size());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertEquals(0, limiter.tryAcquire("f"));
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void testFullMapSweptAtMostOncePerInterval() {
+        RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(1), 3, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(900));
+        limiter.tryAcquire("c");
+
+        // Sweeps and finds nothing idle
+        assertEquals(0, limiter.tryAcquire("d"));
+
+        // "a" and "b" have refilled, but the next sweep is not due yet
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(limiter.tryAcquire("e") > 0);
+        assertEquals(3, limiter.size());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(900));
+        assertEquals(0, limiter.tryAcquire("f"));
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void testConcurrentAcquireNeverExceedsCapacity() throws Exception {
+        int capacity = 1_000;
+        RateLimiter limiter = new RateLimiter(capacity, Duration.ofHours(1), 100, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (limiter.tryAcquire("shared") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(capacity, allowed.get());
+    }
+
+    @Test
+    void testFilterRejectsWithRetryAfter() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(Map.of("/auth/login", new RateLimitProperties.Limit(2, Duration.ofMinutes(1))));
+        RateLimitFilter filter = new RateLimitFilter(new RateLimitRegistry(properties),
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+
+        assertEquals(200, login(filter, "10.0.0.1").getStatus());
+        assertEquals(200, login(filter, "10.0.0.1").getStatus());
+        MockHttpServletResponse rejected = login(filter, "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("30", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("6003"));
+
+        assertEquals(200, login(filter, "10.0.0.2").getStatus());
+        MockHttpServletRequest unlimited = new MockHttpServletRequest("GET", "/auth/validate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(unlimited, response, new MockFilterChain());
+        assertEquals(200, response.getStatus());
+    }
+
+    private static MockHttpServletResponse login(RateLimitFilter filter, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
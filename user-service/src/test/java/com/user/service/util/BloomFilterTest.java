@@ -0,0 +1,55 @@
+package com.user.service.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BloomFilter
+ * Checks the no-false-negative guarantee and that the measured false-positive rate tracks the target
+ */
+class BloomFilterTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    void testNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(KEYS, 0.01);
+        for (int i = 0; i < KEYS; i++) {
+            filter.put("user_" + i + "@example.com");
+        }
+
+        for (int i = 0; i < KEYS; i++) {
+            assertTrue(filter.mightContain("user_" + i + "@example.com"));
+        }
+        assertEquals(KEYS, filter.getInsertions());
+    }
+
+    @Test
+    void testFalsePositiveRateNearTarget() {
+        double target = 0.01;
+        BloomFilter filter = BloomFilter.create(KEYS, target);
+        for (int i = 0; i < KEYS; i++) {
+            filter.put("taken_user_" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < KEYS; i++) {
+            if (filter.mightContain("free_user_" + i)) {
+                falsePositives++;
+            }
+        }
+        double observed = (double) falsePositives / KEYS;
+
+        assertTrue(observed < target * 1.5, "Observed false-positive rate too high: " + observed);
+        assertEquals(target, filter.expectedFalsePositiveProbability(), target * 0.2);
+        // Roughly 9.6 bits per key at 1%
+        assertTrue(filter.getMemoryBytes() < KEYS * 10L / 8 + 64);
+    }
+
+    @Test
+    void testRejectsInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1.0));
+    }
+}
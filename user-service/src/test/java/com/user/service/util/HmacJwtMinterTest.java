@@ -0,0 +1,105 @@
+package com.user.service.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for HmacJwtMinter
+ * Checks byte-for-byte equality with the JJWT builder, including JSON escaping, and reuse across threads
+ */
+class HmacJwtMinterTest {
+
+    private static final SecretKey KEY = Jwts.SIG.HS256.key().build();
+    private static final String KEY_ID = "6f1c2a9e-0b7d-4f55-9d8e-3c2b1a0f9e8d";
+
+    private final HmacJwtMinter minter = new HmacJwtMinter(KEY_ID, KEY);
+
+    @Test
+    void testMatchesJjwtBuilderByteForByte() {
+        List<String> subjects = List.of(
+                "alice",
+                "a",
+                "ab",
+                "user.name+tag@example.com",
+                "quote\"back\\slash/slash",
+                "controls\b\t\n\f\r\u0000\u001f\u007f",
+                "latin éüß and cjk 中文  ",
+                "emoji 😀 lone \ud800 low \udc00");
+        long issuedAt = 1_700_000_000L;
+
+        for (String subject : subjects) {
+            for (long offset = 0; offset < 3; offset++) {
+                long iat = issuedAt + offset;
+                assertEquals(jjwt(subject, iat, iat + 3600), minter.mint(subject, iat, iat + 3600), subject);
+            }
+        }
+    }
+
+    @Test
+    void testTokensParseWithJjwt() {
+        long now = System.currentTimeMillis() / 1000;
+        String token = minter.mint("bob", now, now + 3600);
+
+        Claims claims = Jwts.parser().verifyWith(KEY).build().parseSignedClaims(token).getPayload();
+
+        assertEquals("bob", claims.getSubject());
+        assertEquals(now, claims.getIssuedAt().getTime() / 1000);
+        assertEquals(now + 3600, claims.getExpiration().getTime() / 1000);
+    }
+
+    @Test
+    void testLongSubjectsGrowTheBuffers() {
+        String subject = "x".repeat(5_000) + "\u0001".repeat(500);
+
+        assertEquals(jjwt(subject, 1_700_000_000L, 1_700_003_600L), minter.mint(subject, 1_700_000_000L, 1_700_003_600L));
+        assertEquals(jjwt("short", 1_700_000_000L, 1_700_003_600L), minter.mint("short", 1_700_000_000L, 1_700_003_600L));
+    }
+
+    @Test
+    void testConcurrentMintingStaysCorrect() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        String subject = "user_" + ThreadLocalRandom.current().nextInt(1_000_000);
+                        long iat = 1_700_000_000L + i;
+                        if (!jjwt(subject, iat, iat + 3600).equals(minter.mint(subject, iat, iat + 3600))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String jjwt(String subject, long issuedAt, long expiresAt) {
+        return Jwts.builder()
+                .header().keyId(KEY_ID).and()
+                .subject(subject)
+                .issuedAt(new Date(issuedAt * 1000))
+                .expiration(new Date(expiresAt * 1000))
+                .signWith(KEY)
+                .compact();
+    }
+}
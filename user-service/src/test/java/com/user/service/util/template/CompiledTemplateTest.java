@@ -0,0 +1,50 @@
+package com.user.service.util.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for CompiledTemplate
+ * Covers variable substitution, HTML escaping, raw output and parse errors
+ */
+class CompiledTemplateTest {
+
+    @Test
+    void testRendersVariablesAndLiterals() {
+        CompiledTemplate template = CompiledTemplate.compile("greeting", "<p>Hello {{name}}, you have {{ count }} messages</p>");
+
+        assertEquals("<p>Hello Ada, you have 3 messages</p>", template.render(Map.of("name", "Ada", "count", 3)));
+        assertEquals(Set.of("name", "count"), template.getVariables());
+    }
+
+    @Test
+    void testEscapesValuesUnlessRaw() {
+        CompiledTemplate template = CompiledTemplate.compile("link", "<a href=\"{{url}}\">{{name}}</a>{{&footer}}");
+        Map<String, Object> model = new HashMap<>();
+        model.put("url", "https://example.com/verify?a=1&b=\"2\"");
+        model.put("name", "<script>alert('x')</script>");
+        model.put("footer", "<hr>");
+
+        assertEquals("<a href=\"https://example.com/verify?a=1&amp;b=&quot;2&quot;\">"
+                        + "&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt;</a><hr>",
+                template.render(model));
+    }
+
+    @Test
+    void testMissingValuesRenderEmpty() {
+        CompiledTemplate template = CompiledTemplate.compile("partial", "[{{missing}}]");
+
+        assertEquals("[]", template.render(Map.of()));
+    }
+
+    @Test
+    void testRejectsMalformedTags() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("unclosed", "Hello {{name"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("empty", "Hello {{ }}"));
+    }
+}